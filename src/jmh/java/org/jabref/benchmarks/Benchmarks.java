@@ -5,6 +5,8 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -19,6 +21,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
@@ -49,6 +52,7 @@ import static org.mockito.Mockito.mock;
 public class Benchmarks {
 
     private String bibtexString;
+    private String largeBibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
@@ -72,6 +76,12 @@ public class Benchmarks {
 
         bibtexString = getOutputWriter().toString();
 
+        StringBuilder largeBibtex = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            largeBibtex.append(bibtexString.replace("@Misc{id", "@Misc{copy" + i + "id"));
+        }
+        largeBibtexString = largeBibtex.toString();
+
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
@@ -96,6 +106,18 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLargeLibrary() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parse(new StringReader(largeBibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseLargeLibraryInParallel() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(largeBibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -115,6 +137,12 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        return new DatabaseSearcher(searchQuery, database).getMatches();
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -144,6 +172,22 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public Optional<BibEntry> getEntryByCitationKey() {
+        return database.getEntryByCitationKey("id500");
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByCitationKeyLinearScan() {
+        // Baseline for getEntryByCitationKey: how the lookup was done before the citation key index
+        return database.getEntries().stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), "id500")).findFirst();
+    }
+
+    @Benchmark
+    public boolean isDuplicateCitationKeyExisting() {
+        return database.isDuplicateCitationKeyExisting("id500");
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
@@ -1,15 +1,18 @@
 package org.jabref.cli;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.prefs.BackingStoreException;
 
 import org.jabref.gui.Globals;
@@ -60,12 +63,15 @@ import org.jabref.preferences.PreferencesService;
 import org.jabref.preferences.SearchPreferences;
 
 import com.google.common.base.Throwables;
+import org.jooq.lambda.Unchecked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ArgumentProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentProcessor.class);
 
+    private static final int CONVERSION_BATCH_SIZE = 1000;
+
     public enum Mode { INITIAL_START, REMOTE_START }
 
     private final JabRefCLI cli;
@@ -129,7 +135,7 @@ public class ArgumentProcessor {
 
         String address = data[0];
         Path file;
-        if (address.startsWith("http://") || address.startsWith("https://") || address.startsWith("ftp://")) {
+        if (isWebAddress(address)) {
             // Download web resource to temporary file
             try {
                 file = new URLDownload(address).toTemporaryFile();
@@ -138,11 +144,7 @@ public class ArgumentProcessor {
                 return Optional.empty();
             }
         } else {
-            if (OS.WINDOWS) {
-                file = Path.of(address);
-            } else {
-                file = Path.of(address.replace("~", System.getProperty("user.home")));
-            }
+            file = getFilePath(address);
         }
 
         String importFormat;
@@ -161,6 +163,17 @@ public class ArgumentProcessor {
         return importResult;
     }
 
+    private static Path getFilePath(String address) {
+        if (OS.WINDOWS) {
+            return Path.of(address);
+        }
+        return Path.of(address.replace("~", System.getProperty("user.home")));
+    }
+
+    private static boolean isWebAddress(String address) {
+        return address.startsWith("http://") || address.startsWith("https://") || address.startsWith("ftp://");
+    }
+
     private Optional<ParserResult> importFile(Path file, String importFormat) {
         try {
             ImportFormatReader importFormatReader = new ImportFormatReader(
@@ -213,6 +226,10 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (isOnlyConversionToBibtex() && convertToBibtexInBatches(cli.getFileImport().split(","), cli.getFileExport())) {
+            return;
+        }
+
         List<ParserResult> loaded = importAndOpenFiles();
 
         if (!cli.isBlank() && cli.isFetcherEngine()) {
@@ -608,26 +625,164 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Checks whether the arguments only convert one local file of a given format to BibTeX, without opening the file or
+     * doing anything else with its entries.
+     */
+    private boolean isOnlyConversionToBibtex() {
+        if (!cli.isDisableGui() || cli.isBlank() || !cli.isFileImport() || !cli.getLeftOver().isEmpty()
+                || !cli.isFileExport() || (cli.getFileExport().split(",").length != 1)) {
+            return false;
+        }
+        String[] importData = cli.getFileImport().split(",");
+        if ((importData.length < 2) || "*".equals(importData[1]) || isWebAddress(importData[0])) {
+            return false;
+        }
+        return !cli.isImportToOpenBase() && !cli.isBibtexImport() && !cli.isFetcherEngine() && !cli.isExportMatches()
+                && !cli.isGenerateCitationKeys() && !cli.isAutomaticallySetFileLinks()
+                && !cli.isWriteMetadatatoPdf() && !cli.isWriteXMPtoPdf() && !cli.isEmbeddBibfileInPdf()
+                && !cli.isPreferencesExport() && !cli.isAuxImport() && !cli.isJumpToKey();
+    }
+
+    /**
+     * Converts the given file to BibTeX. The entries are written batch by batch while they are imported, so that huge
+     * files can be converted without keeping all entries in memory. Only the citation keys written so far are kept, so
+     * that generated keys are unique across the whole file. In contrast to saving a library, the entries are written in
+     * the order of the imported file.
+     *
+     * @return false if the file cannot be converted this way, e.g., because it does not exist
+     */
+    private boolean convertToBibtexInBatches(String[] importData, String outputFile) {
+        Path file = getFilePath(importData[0]);
+        String importFormat = importData[1];
+        ImportFormatReader importFormatReader = new ImportFormatReader(
+                preferencesService.getImporterPreferences(),
+                preferencesService.getImportFormatPreferences(),
+                fileUpdateMonitor);
+        boolean isKnownFormat = importFormatReader.getImportFormats().stream().anyMatch(importer -> importer.getId().equals(importFormat));
+        if (!isKnownFormat || !Files.exists(file)) {
+            // The usual import reports the problem
+            return false;
+        }
+
+        System.out.println(Localization.lang("Importing %0", file));
+        System.out.println(Localization.lang("Saving") + ": " + outputFile);
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(Path.of(outputFile), StandardCharsets.UTF_8)) {
+            ParserResult result = writeInBatches(
+                    entryConsumer -> importFormatReader.importFromFile(importFormat, file, entryConsumer),
+                    fileWriter,
+                    createBibtexWriter(fileWriter));
+            if (result.isInvalid()) {
+                System.err.println(Localization.lang("Error opening file '%0'", file) + "\n" + result.getErrorMessage());
+                return true;
+            }
+            if (result.hasWarnings()) {
+                System.out.println(result.getErrorMessage());
+            }
+            printEncodingProblems(fileWriter);
+        } catch (ImportException ex) {
+            System.err.println(Localization.lang("Error opening file '%0'", file) + "\n" + ex.getLocalizedMessage());
+        } catch (IOException | UncheckedIOException ex) {
+            System.err.println(Localization.lang("Could not save file.") + "\n" + ex.getLocalizedMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Imports entries by passing each one to the given consumer, e.g.,
+     * {@link ImportFormatReader#importFromFile(String, Path, Consumer)}
+     */
+    @FunctionalInterface
+    interface EntryImport {
+
+        ParserResult importEntries(Consumer<BibEntry> entryConsumer) throws ImportException;
+    }
+
+    /**
+     * Writes the imported entries batch by batch. If the import or the writing fails, the writer is aborted, so that
+     * the target file is not replaced by the entries written up to the failure.
+     *
+     * @return the result of the import, if it is invalid, the writer is aborted
+     */
+    static ParserResult writeInBatches(EntryImport entryImport, AtomicFileWriter fileWriter, BibDatabaseWriter databaseWriter) throws ImportException, IOException {
+        try {
+            KeyTrackingDatabase database = new KeyTrackingDatabase();
+            BibDatabaseContext databaseContext = new BibDatabaseContext(database);
+            databaseWriter.saveBeginning(databaseContext);
+
+            List<BibEntry> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            ParserResult result = entryImport.importEntries(Unchecked.consumer(entry -> {
+                batch.add(entry);
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    saveBatch(databaseWriter, databaseContext, database, batch);
+                    batch.clear();
+                }
+            }));
+            if (result.isInvalid()) {
+                fileWriter.abort();
+                return result;
+            }
+            saveBatch(databaseWriter, databaseContext, database, batch);
+            databaseWriter.saveEnd(databaseContext);
+            return result;
+        } catch (ImportException | IOException | RuntimeException ex) {
+            fileWriter.abort();
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes the given entries. The entries are only in the database while they are written, afterwards only their
+     * citation keys are kept.
+     */
+    private static void saveBatch(BibDatabaseWriter databaseWriter, BibDatabaseContext databaseContext, KeyTrackingDatabase database, List<BibEntry> batch) throws IOException {
+        database.insertEntries(batch);
+        databaseWriter.saveEntries(databaseContext, batch);
+        database.removeEntries(batch);
+        batch.forEach(entry -> entry.getCitationKey().ifPresent(database.writtenKeys::add));
+    }
+
+    /**
+     * Database of a conversion which counts the citation keys of the entries written before as well, so that keys
+     * generated for a later batch are disambiguated against all earlier entries.
+     */
+    private static class KeyTrackingDatabase extends BibDatabase {
+
+        private final Set<String> writtenKeys = new HashSet<>();
+
+        @Override
+        public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+            return super.getNumberOfCitationKeyOccurrences(key) + (writtenKeys.contains(key) ? 1 : 0);
+        }
+    }
+
+    private BibDatabaseWriter createBibtexWriter(AtomicFileWriter fileWriter) {
+        BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withReformatOnSave(preferencesService.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        return new BibtexDatabaseWriter(
+                bibWriter,
+                saveConfiguration,
+                preferencesService.getFieldPreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                entryTypesManager);
+    }
+
+    private static void printEncodingProblems(AtomicFileWriter fileWriter) {
+        // Show just a warning message if encoding did not work for all characters:
+        if (fileWriter.hasEncodingProblems()) {
+            System.err.println(Localization.lang("Warning") + ": "
+                               + Localization.lang("UTF-8 could not be used to encode the following characters: %0", fileWriter.getEncodingProblems()));
+        }
+    }
+
     private void saveDatabase(BibDatabase newBase, String subName) {
         try {
             System.out.println(Localization.lang("Saving") + ": " + subName);
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(Path.of(subName), StandardCharsets.UTF_8)) {
-                BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
-                SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
-                        .withReformatOnSave(preferencesService.getLibraryPreferences().shouldAlwaysReformatOnSave());
-                BibDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
-                        bibWriter,
-                        saveConfiguration,
-                        preferencesService.getFieldPreferences(),
-                        preferencesService.getCitationKeyPatternPreferences(),
-                        entryTypesManager);
+                BibDatabaseWriter databaseWriter = createBibtexWriter(fileWriter);
                 databaseWriter.saveDatabase(new BibDatabaseContext(newBase));
-
-                // Show just a warning message if encoding did not work for all characters:
-                if (fileWriter.hasEncodingProblems()) {
-                    System.err.println(Localization.lang("Warning") + ": "
-                                       + Localization.lang("UTF-8 could not be used to encode the following characters: %0", fileWriter.getEncodingProblems()));
-                }
+                printEncodingProblems(fileWriter);
             }
         } catch (IOException ex) {
             System.err.println(Localization.lang("Could not save file.") + "\n" + ex.getLocalizedMessage());
@@ -732,9 +887,7 @@ public class ArgumentProcessor {
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                     parserResult.getDatabaseContext(),
                     preferencesService.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
@@ -7,10 +7,12 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -46,7 +48,7 @@ public class JournalListMvGenerator {
                      fileName(journalListMvFile.toString()).
                      compressHigh().
                      open()) {
-            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP);
             stream.forEach(Unchecked.consumer(path -> {
                 String fileName = path.getFileName().toString();
                 System.out.print("Checking ");
@@ -70,6 +72,14 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Abbreviations read back from the store lack their name, thus they are restored using the key
+            Map<String, Abbreviation> allAbbreviations = new TreeMap<>();
+            fullToAbbreviation.keySet().forEach(name -> {
+                Abbreviation stored = fullToAbbreviation.get(name);
+                allAbbreviations.put(name, new Abbreviation(name, stored.getAbbreviation(), stored.getShortestUniqueAbbreviation()));
+            });
+            JournalAbbreviationRepository.writeLookupMaps(store, allAbbreviations);
         }
     }
 }
@@ -13,6 +13,7 @@ import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.io.DirectoryIndexService;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
@@ -67,6 +68,7 @@ public class Globals {
     private static KeyBindingRepository keyBindingRepository;
 
     private static DefaultFileUpdateMonitor fileUpdateMonitor;
+    private static DirectoryIndexService directoryIndexService;
 
     private Globals() {
     }
@@ -94,6 +96,13 @@ public class Globals {
         return fileUpdateMonitor;
     }
 
+    public static synchronized DirectoryIndexService getDirectoryIndexService() {
+        if (directoryIndexService == null) {
+            directoryIndexService = new DirectoryIndexService(getFileUpdateMonitor());
+        }
+        return directoryIndexService;
+    }
+
     // Background tasks
     public static void startBackgroundTasks() {
         // TODO Currently deactivated due to incompatibilities in XML
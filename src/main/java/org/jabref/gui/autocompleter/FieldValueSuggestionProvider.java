@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -19,8 +20,18 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider {
         this.database = database;
     }
 
+    private SuggestionIndex<String> getIndex() {
+        return SuggestionIndex.forDatabase(database, List.of(FieldValueSuggestionProvider.class, field), List.of(field),
+                entry -> entry.getField(field).stream(), value -> value);
+    }
+
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return getIndex().getAll();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return getIndex().getCandidates(userText);
     }
 }
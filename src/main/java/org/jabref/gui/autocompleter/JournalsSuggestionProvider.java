@@ -22,4 +22,10 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
     }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        // The journal names of the repository are only looked at if the library does not provide enough matches
+        return Streams.concat(super.getCandidates(userText), repository.getFullNames().stream());
+    }
 }
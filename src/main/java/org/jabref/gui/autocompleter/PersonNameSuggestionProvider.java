@@ -3,6 +3,7 @@ package org.jabref.gui.autocompleter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -36,7 +37,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         this.database = database;
     }
 
-    public Stream<Author> getAuthors(BibEntry entry) {
+    /**
+     * Static, so that the index of the database, which keeps the extractor, does not keep the provider and thereby the
+     * database itself
+     */
+    private static Stream<Author> getAuthors(Collection<Field> fields, BibEntry entry) {
         return entry.getFieldMap()
                     .entrySet()
                     .stream()
@@ -61,10 +66,18 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getLastFirst(false), request.getUserText());
     }
 
+    private SuggestionIndex<Author> getIndex() {
+        return SuggestionIndex.forDatabase(database, List.of(PersonNameSuggestionProvider.class, fields), fields,
+                entry -> getAuthors(fields, entry), author -> author.getLastFirst(false));
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return getIndex().getAll();
+    }
+
+    @Override
+    protected Stream<Author> getCandidates(String userText) {
+        return getIndex().getCandidates(userText);
     }
 }
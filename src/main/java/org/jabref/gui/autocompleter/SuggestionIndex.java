@@ -0,0 +1,159 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the distinct suggestions found in some fields of the entries of a database, sorted by the text the user
+ * input is matched against.
+ * <p>
+ * The index is kept up to date by the events of the database. It is only modified by the thread posting the events, but
+ * may be read concurrently by the threads computing suggestions.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    private static final Map<BibDatabase, Map<Object, SuggestionIndex<?>>> INDEXES = new MapMaker().weakKeys().makeMap();
+
+    private final Collection<Field> fields;
+    private final Function<BibEntry, Stream<T>> suggestionsOfEntry;
+    private final Function<T, String> matchText;
+
+    // Weak, as the entries refer to the database by their event bus, which would keep the database in INDEXES
+    private final Map<BibEntry, List<T>> suggestionsByEntry = new MapMaker().weakKeys().makeMap();
+    // Number of occurrences of each suggestion, a suggestion is dropped when it no longer occurs
+    private final Map<T, Integer> occurrences = new HashMap<>();
+    private final NavigableMap<String, Set<T>> suggestionsByMatchText = new ConcurrentSkipListMap<>();
+
+    private SuggestionIndex(Collection<Field> fields, Function<BibEntry, Stream<T>> suggestionsOfEntry, Function<T, String> matchText) {
+        this.fields = fields;
+        this.suggestionsOfEntry = suggestionsOfEntry;
+        this.matchText = matchText;
+    }
+
+    /**
+     * Returns the index of the given database for the given key. The index is created on first access and then kept up
+     * to date by the events of the database.
+     *
+     * @param key                identifies the index, providers using the same key share the index
+     * @param fields             the fields the suggestions are taken from
+     * @param suggestionsOfEntry extracts the suggestions from an entry, must not refer to the database, as the index
+     *                           would then keep the database
+     * @param matchText          the text the user input is matched against
+     */
+    @SuppressWarnings("unchecked")
+    static <T> SuggestionIndex<T> forDatabase(BibDatabase database,
+                                              Object key,
+                                              Collection<Field> fields,
+                                              Function<BibEntry, Stream<T>> suggestionsOfEntry,
+                                              Function<T, String> matchText) {
+        Map<Object, SuggestionIndex<?>> indexesOfDatabase = INDEXES.computeIfAbsent(database, db -> new ConcurrentHashMap<>());
+        return (SuggestionIndex<T>) indexesOfDatabase.computeIfAbsent(key, k -> {
+            SuggestionIndex<T> index = new SuggestionIndex<>(fields, suggestionsOfEntry, matchText);
+            // Register first to not miss entries added meanwhile, adding an entry twice has no effect
+            database.registerListener(index);
+            synchronized (index) {
+                database.getEntries().forEach(index::add);
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Returns all distinct suggestions. The suggestions whose match text starts with the given user text come first, so
+     * that a limited number of matches can usually be found without looking at the other suggestions. The other
+     * suggestions are only looked at if the stream is consumed further.
+     */
+    Stream<T> getCandidates(String userText) {
+        String prefix = normalize(userText);
+        Stream<T> startingWithPrefix = suggestionsByMatchText.tailMap(prefix, true).entrySet().stream()
+                                                             .takeWhile(entry -> entry.getKey().startsWith(prefix))
+                                                             .flatMap(entry -> entry.getValue().stream());
+        Stream<T> others = suggestionsByMatchText.entrySet().stream()
+                                                 .filter(entry -> !entry.getKey().startsWith(prefix))
+                                                 .flatMap(entry -> entry.getValue().stream());
+        return Stream.concat(startingWithPrefix, others);
+    }
+
+    Stream<T> getAll() {
+        return suggestionsByMatchText.values().stream().flatMap(Set::stream);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::add);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (!fields.contains(event.getField()) || !suggestionsByEntry.containsKey(entry)) {
+            return;
+        }
+        remove(entry);
+        add(entry);
+    }
+
+    private void add(BibEntry entry) {
+        if (suggestionsByEntry.containsKey(entry)) {
+            return;
+        }
+        List<T> suggestions = suggestionsOfEntry.apply(entry).toList();
+        suggestionsByEntry.put(entry, suggestions);
+        for (T suggestion : suggestions) {
+            if (occurrences.merge(suggestion, 1, Integer::sum) == 1) {
+                suggestionsByMatchText.computeIfAbsent(normalize(matchText.apply(suggestion)), text -> ConcurrentHashMap.newKeySet())
+                                      .add(suggestion);
+            }
+        }
+    }
+
+    private void remove(BibEntry entry) {
+        List<T> suggestions = suggestionsByEntry.remove(entry);
+        if (suggestions == null) {
+            return;
+        }
+        for (T suggestion : suggestions) {
+            if (occurrences.merge(suggestion, -1, Integer::sum) == 0) {
+                occurrences.remove(suggestion);
+                String text = normalize(matchText.apply(suggestion));
+                Set<T> suggestionsWithText = suggestionsByMatchText.get(text);
+                if (suggestionsWithText != null) {
+                    suggestionsWithText.remove(suggestion);
+                    if (suggestionsWithText.isEmpty()) {
+                        suggestionsByMatchText.remove(text);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -46,7 +46,7 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getCandidates(request.getUserText()).filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -81,4 +81,12 @@ public abstract class SuggestionProvider<T> {
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
     public abstract Stream<T> getSource();
+
+    /**
+     * Get the candidates to check for matches of the given user text. As only the first matches are used, providers
+     * should deliver the likely matches first.
+     */
+    protected Stream<T> getCandidates(String userText) {
+        return getSource();
+    }
 }
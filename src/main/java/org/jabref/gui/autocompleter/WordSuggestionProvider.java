@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -19,10 +20,18 @@ public class WordSuggestionProvider extends StringSuggestionProvider {
         this.database = database;
     }
 
+    private SuggestionIndex<String> getIndex() {
+        return SuggestionIndex.forDatabase(database, List.of(WordSuggestionProvider.class, field), List.of(field),
+                entry -> entry.getFieldAsWords(field).stream(), word -> word);
+    }
+
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return getIndex().getAll();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return getIndex().getCandidates(userText);
     }
 }
@@ -0,0 +1,293 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.util.BackupFileType;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of the entries changed since a full backup was written (differential backup).
+ * <p>
+ * Writing a full backup serializes the complete library, which is expensive for large libraries. Therefore, the
+ * {@link BackupManager} appends the serializations of the changed entries to the journal of the latest backup file
+ * instead. The journal starts with the positions of the entries in the backup file, so that the library is restored by
+ * replacing the serializations of the changed entries in the backup file, see {@link #replay(Path)}.
+ * <p>
+ * The journal is a text file with the following lines, numbers are positions in characters:
+ * <pre>
+ * % JabRef backup journal
+ * encoding &lt;encoding of the backup file&gt;
+ * newline &lt;line separator, with \r and \n escaped&gt;
+ * length &lt;length of the backup file&gt;
+ * entries &lt;number of entries&gt; &lt;1 if a line break precedes the first entry, 0 otherwise&gt;
+ * &lt;start&gt; &lt;end&gt;  (once per entry of the backup file, in the order of the file)
+ * </pre>
+ * followed by the records {@code upsert <ordinal> <length>} with the serialization of the entry on the next line, and
+ * {@code remove <ordinal>}. The ordinal of an entry of the backup file is its index, entries added later get the next
+ * free ordinal. An incompletely written last record is ignored.
+ */
+class BackupJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String HEADER = "% JabRef backup journal";
+    private static final String UPSERT = "upsert";
+    private static final String REMOVE = "remove";
+
+    private final Path path;
+    private final long backupLength;
+    private final int numberOfBackupEntries;
+    // Entries are equal if their content is, thus we need to compare by identity
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+    private int nextOrdinal;
+
+    private BackupJournal(Path path, long backupLength, List<EntryPosition> positions) {
+        this.path = path;
+        this.backupLength = backupLength;
+        this.numberOfBackupEntries = positions.size();
+        positions.forEach(position -> ordinals.put(position.entry(), ordinals.size()));
+        this.nextOrdinal = positions.size();
+    }
+
+    /**
+     * Position of the serialization of an entry in the backup file
+     *
+     * @param start position of the first character, excluding a line break separating the entry from the previous block
+     * @param end   position after the last character
+     */
+    record EntryPosition(BibEntry entry, long start, long end, boolean precededByLineBreak) {
+    }
+
+    /**
+     * Change of an entry, an empty serialization means that the entry was removed
+     */
+    record EntryChange(BibEntry entry, Optional<String> serialization) {
+    }
+
+    static Path getJournalPath(Path backupPath) {
+        return FileUtil.addExtension(backupPath, "." + BackupFileType.JOURNAL.getExtensions().getFirst());
+    }
+
+    /**
+     * Creates an empty journal for the given backup file, which has just been written.
+     *
+     * @param length    the length of the backup file in characters
+     * @param positions the positions of all entries in the backup file, in the order of the file
+     */
+    static BackupJournal create(Path backupPath, Charset encoding, String newLineSeparator, long length, List<EntryPosition> positions) throws IOException {
+        Path journalPath = getJournalPath(backupPath);
+        try (Writer writer = new AtomicFileWriter(journalPath, StandardCharsets.UTF_8, false)) {
+            writer.write(HEADER + "\n");
+            writer.write("encoding " + encoding.name() + "\n");
+            writer.write("newline " + newLineSeparator.replace("\r", "\\r").replace("\n", "\\n") + "\n");
+            writer.write("length " + length + "\n");
+            boolean precededByLineBreak = !positions.isEmpty() && positions.getFirst().precededByLineBreak();
+            writer.write("entries " + positions.size() + " " + (precededByLineBreak ? 1 : 0) + "\n");
+            for (EntryPosition position : positions) {
+                writer.write(position.start() + " " + position.end() + "\n");
+            }
+        }
+        return new BackupJournal(journalPath, length, positions);
+    }
+
+    long getBackupLength() {
+        return backupLength;
+    }
+
+    int getNumberOfBackupEntries() {
+        return numberOfBackupEntries;
+    }
+
+    long size() throws IOException {
+        return Files.size(path);
+    }
+
+    /**
+     * Appends the given changes in one write, so that an interrupted write affects the last change only.
+     */
+    void append(List<EntryChange> changes) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (EntryChange change : changes) {
+            if (change.serialization().isPresent()) {
+                int ordinal = ordinals.computeIfAbsent(change.entry(), entry -> nextOrdinal++);
+                String serialization = change.serialization().get();
+                records.append(UPSERT).append(' ').append(ordinal).append(' ').append(serialization.length()).append('\n')
+                       .append(serialization).append('\n');
+            } else {
+                Integer ordinal = ordinals.get(change.entry());
+                if (ordinal != null) {
+                    records.append(REMOVE).append(' ').append(ordinal).append('\n');
+                }
+            }
+        }
+        if (!records.isEmpty()) {
+            Files.writeString(path, records, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+    }
+
+    /**
+     * Restores the content of the library from the given backup file and its journal.
+     *
+     * @return the content and its encoding, or an empty optional if there is no journal, the journal does not contain
+     * changes, or the journal does not fit the backup file. In these cases, the backup file itself is the backup.
+     */
+    static Optional<ReplayedBackup> replay(Path backupPath) {
+        Path journalPath = getJournalPath(backupPath);
+        if (Files.notExists(journalPath)) {
+            return Optional.empty();
+        }
+        try {
+            JournalReader reader = new JournalReader(Files.readString(journalPath, StandardCharsets.UTF_8));
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("Unknown journal format");
+            }
+            Charset encoding = Charset.forName(reader.readValue("encoding"));
+            String newLineSeparator = reader.readValue("newline").replace("\\r", "\r").replace("\\n", "\n");
+            long length = Long.parseLong(reader.readValue("length"));
+            String[] entries = reader.readValue("entries").split(" ");
+            int numberOfEntries = Integer.parseInt(entries[0]);
+            boolean precededByLineBreak = "1".equals(entries[1]);
+            int[] starts = new int[numberOfEntries];
+            int[] ends = new int[numberOfEntries];
+            for (int i = 0; i < numberOfEntries; i++) {
+                String[] position = reader.readLine().split(" ");
+                starts[i] = Integer.parseInt(position[0]);
+                ends[i] = Integer.parseInt(position[1]);
+            }
+
+            // The latest record of an entry wins, an empty serialization means that the entry was removed
+            Map<Integer, Optional<String>> changes = new LinkedHashMap<>();
+            Optional<String> record;
+            while ((record = reader.readCompleteLine()).isPresent()) {
+                String[] parts = record.get().split(" ");
+                if (UPSERT.equals(parts[0])) {
+                    Optional<String> serialization = reader.readCompleteRecord(Integer.parseInt(parts[2]));
+                    if (serialization.isEmpty()) {
+                        break;
+                    }
+                    changes.put(Integer.parseInt(parts[1]), serialization);
+                } else if (REMOVE.equals(parts[0])) {
+                    changes.put(Integer.parseInt(parts[1]), Optional.empty());
+                } else {
+                    throw new IllegalArgumentException("Unknown record " + record.get());
+                }
+            }
+            if (changes.isEmpty() || (numberOfEntries == 0)) {
+                return Optional.empty();
+            }
+
+            String backup = Files.readString(backupPath, encoding);
+            checkPositions(backup, length, newLineSeparator, precededByLineBreak, starts, ends);
+
+            int firstEntryStart = starts[0] - (precededByLineBreak ? newLineSeparator.length() : 0);
+            StringBuilder content = new StringBuilder(backup.length()).append(backup, 0, firstEntryStart);
+            // Entries are separated by a line break, the first one only if something was written before
+            boolean lineBreakRequired = precededByLineBreak;
+            for (int i = 0; i < numberOfEntries; i++) {
+                Optional<String> serialization = changes.containsKey(i) ? changes.get(i) : Optional.of(backup.substring(starts[i], ends[i]));
+                if (serialization.isPresent()) {
+                    content.append(lineBreakRequired ? newLineSeparator : "").append(serialization.get());
+                    lineBreakRequired = true;
+                }
+            }
+            for (Map.Entry<Integer, Optional<String>> change : changes.entrySet()) {
+                if ((change.getKey() >= numberOfEntries) && change.getValue().isPresent()) {
+                    content.append(lineBreakRequired ? newLineSeparator : "").append(change.getValue().get());
+                    lineBreakRequired = true;
+                }
+            }
+            content.append(backup, ends[numberOfEntries - 1], backup.length());
+            return Optional.of(new ReplayedBackup(content.toString(), encoding));
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            LOGGER.warn("Could not replay journal {}, using the backup file only", journalPath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Ensures that the backup file is the one the journal was written for
+     */
+    private static void checkPositions(String backup, long length, String newLineSeparator, boolean precededByLineBreak, int[] starts, int[] ends) {
+        if (backup.length() != length) {
+            throw new IllegalArgumentException("Backup file has length %d instead of %d".formatted(backup.length(), length));
+        }
+        for (int i = 0; i < starts.length; i++) {
+            boolean lineBreakBefore = (i > 0) || precededByLineBreak;
+            int previousEnd = i > 0 ? ends[i - 1] : starts[i] - (lineBreakBefore ? newLineSeparator.length() : 0);
+            if ((starts[i] > ends[i]) || (ends[i] > backup.length())
+                    || !backup.substring(previousEnd, starts[i]).equals(lineBreakBefore ? newLineSeparator : "")) {
+                throw new IllegalArgumentException("Entry positions do not fit the backup file");
+            }
+        }
+    }
+
+    record ReplayedBackup(String content, Charset encoding) {
+
+        byte[] getBytes() {
+            return content.getBytes(encoding);
+        }
+    }
+
+    private static class JournalReader {
+
+        private final String text;
+        private int position = 0;
+
+        JournalReader(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Reads the next line, which has to be terminated by a line break. Returns an empty optional otherwise.
+         */
+        Optional<String> readCompleteLine() {
+            int lineEnd = text.indexOf('\n', position);
+            if (lineEnd < 0) {
+                return Optional.empty();
+            }
+            String line = text.substring(position, lineEnd);
+            position = lineEnd + 1;
+            return Optional.of(line);
+        }
+
+        String readLine() {
+            return readCompleteLine().orElseThrow(() -> new IllegalArgumentException("Journal header is incomplete"));
+        }
+
+        String readValue(String key) {
+            String line = readLine();
+            if (!line.startsWith(key + " ")) {
+                throw new IllegalArgumentException("Expected " + key + " in journal header");
+            }
+            return line.substring(key.length() + 1);
+        }
+
+        /**
+         * Reads the given number of characters and the terminating line break
+         */
+        Optional<String> readCompleteRecord(int length) {
+            if ((position + length >= text.length()) || (text.charAt(position + length) != '\n')) {
+                return Optional.empty();
+            }
+            String record = text.substring(position, position + length);
+            position += length + 1;
+            return Optional.of(record);
+        }
+    }
+}
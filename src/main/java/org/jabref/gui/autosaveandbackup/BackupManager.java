@@ -1,6 +1,8 @@
 package org.jabref.gui.autosaveandbackup;
 
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -8,8 +10,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -24,8 +30,11 @@ import javafx.scene.control.TableColumn;
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
@@ -33,8 +42,13 @@ import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.preferences.PreferencesService;
@@ -48,6 +62,12 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * If only fields of entries changed or entries were removed since the latest backup, the changed entries are appended
+ * to the {@link BackupJournal journal} of the latest backup file instead of writing a full backup. Thus, the cost of a
+ * backup depends on the number of changes rather than on the size of the library. A full backup is written again as
+ * soon as the journal gets large, entries are added, a field the entries are sorted by changes, or the library is
+ * closed. Then, the backup has the same content as saving the library would have.
  */
 public class BackupManager {
 
@@ -57,6 +77,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // A full backup is written instead of appending to the journal if the journal would get larger than this fraction of the backup file
+    private static final double MAXIMUM_JOURNAL_SIZE_RELATIVE_TO_BACKUP = 0.5;
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -71,6 +94,14 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Journal of the latest backup file, null if the next backup has to be a full one
+    private BackupJournal journal;
+    private boolean needsFullBackup = true;
+    // Entries changed since the latest backup, mapped to whether they are still part of the library
+    private final Map<BibEntry, Boolean> changedEntries = new IdentityHashMap<>();
+    private final List<BibEntry> changedEntriesInOrder = new ArrayList<>();
+    private final Set<Field> changedFields = new HashSet<>();
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -156,9 +187,12 @@ public class BackupManager {
             return false;
         }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
+            // Changes appended to the journal are part of the backup
+            Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
+            Path lastModifiedBackupPath = Files.exists(journalPath) ? journalPath : latestBackupPath;
             FileTime latestBackupFileLastModifiedTime;
             try {
-                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(lastModifiedBackupPath);
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -178,7 +212,13 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                Optional<BackupJournal.ReplayedBackup> replayedBackup = BackupJournal.replay(latestBackupPath);
+                boolean result;
+                if (replayedBackup.isPresent()) {
+                    result = !Arrays.equals(Files.readAllBytes(originalPath), replayedBackup.get().getBytes());
+                } else {
+                    result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                }
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -192,7 +232,8 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup file by copying and overwriting the original one. The changes in the journal of the backup
+     * file are applied.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
@@ -203,12 +244,27 @@ public class BackupManager {
             return;
         }
         try {
+            Optional<BackupJournal.ReplayedBackup> replayedBackup = BackupJournal.replay(backupPath.get());
+            if (replayedBackup.isPresent()) {
+                Files.write(originalPath, replayedBackup.get().getBytes());
+                return;
+            }
             Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    /**
+     * Reads the content of the given backup file, including the changes in its journal.
+     *
+     * @return the content, or an empty optional if the backup file does not have a journal with changes. Then, the
+     * backup file itself has the content.
+     */
+    public static Optional<String> readBackupWithJournal(Path backupPath) {
+        return BackupJournal.replay(backupPath).map(BackupJournal.ReplayedBackup::content);
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
@@ -225,38 +281,33 @@ public class BackupManager {
             return;
         }
 
+        if (appendToJournal()) {
+            return;
+        }
+
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
         }
 
-        // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
-        SelfContainedSaveOrder saveOrder = bibDatabaseContext
-                .getMetaData().getSaveOrder()
-                .map(so -> {
-                    if (so.getOrderType() == SaveOrder.OrderType.TABLE) {
-                        // We need to "flatten out" SaveOrder.OrderType.TABLE as BibWriter does not have access to preferences
-                        List<TableColumn<BibEntryTableViewModel, ?>> sortOrder = libraryTab.getMainTable().getSortOrder();
-                        return new SelfContainedSaveOrder(
-                                SaveOrder.OrderType.SPECIFIED,
-                                sortOrder.stream()
-                                         .filter(col -> col instanceof MainTableColumn<?>)
-                                         .map(column -> ((MainTableColumn<?>) column).getModel())
-                                         .flatMap(model -> model.getSortCriteria().stream())
-                                         .toList());
-                    } else {
-                        return SelfContainedSaveOrder.of(so);
-                    }
-                })
-                .orElse(SaveOrder.getDefaultSaveOrder());
+        // The full backup contains all changes made until now
+        synchronized (this) {
+            journal = null;
+            needsFullBackup = false;
+            changedEntries.clear();
+            changedEntriesInOrder.clear();
+            changedFields.clear();
+        }
+
         SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                 .withMakeBackup(false)
-                .withSaveOrder(saveOrder)
+                .withSaveOrder(getSaveOrder())
                 .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
@@ -264,15 +315,30 @@ public class BackupManager {
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during the write of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+        List<BackupJournal.EntryPosition> entryPositions = new ArrayList<>();
+        long backupLength;
         try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
-            BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
+            CountingWriter countingWriter = new CountingWriter(writer);
+            BibWriter bibWriter = new BibWriter(countingWriter, newLineSeparator);
             new BibtexDatabaseWriter(
                     bibWriter,
                     saveConfiguration,
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
-                    entryTypesManager)
-                    .saveDatabase(bibDatabaseContext);
+                    entryTypesManager) {
+                @Override
+                protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+                    // Write a pending line break separating the entry from the previous block first, so that the
+                    // position of the entry excludes it
+                    long positionBeforeLineBreak = countingWriter.getCount();
+                    bibWriter.write("");
+                    long start = countingWriter.getCount();
+                    super.writeEntry(entry, mode);
+                    entryPositions.add(new BackupJournal.EntryPosition(entry, start, countingWriter.getCount(), start > positionBeforeLineBreak));
+                }
+            }.saveDatabase(bibDatabaseContext);
+            backupLength = countingWriter.getCount();
             backupFilesQueue.add(backupPath);
 
             // We wrote the file successfully
@@ -280,7 +346,114 @@ public class BackupManager {
             this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            return;
+        }
+
+        try {
+            BackupJournal newJournal = BackupJournal.create(backupPath, encoding, newLineSeparator, backupLength, entryPositions);
+            synchronized (this) {
+                if (!needsFullBackup) {
+                    journal = newJournal;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not create journal for backup file {}", backupPath, e);
+        }
+    }
+
+    private SelfContainedSaveOrder getSaveOrder() {
+        // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
+        return bibDatabaseContext
+                .getMetaData().getSaveOrder()
+                .map(so -> {
+                    if (so.getOrderType() == SaveOrder.OrderType.TABLE) {
+                        // We need to "flatten out" SaveOrder.OrderType.TABLE as BibWriter does not have access to preferences
+                        List<TableColumn<BibEntryTableViewModel, ?>> sortOrder = libraryTab.getMainTable().getSortOrder();
+                        return new SelfContainedSaveOrder(
+                                SaveOrder.OrderType.SPECIFIED,
+                                sortOrder.stream()
+                                         .filter(col -> col instanceof MainTableColumn<?>)
+                                         .map(column -> ((MainTableColumn<?>) column).getModel())
+                                         .flatMap(model -> model.getSortCriteria().stream())
+                                         .toList());
+                    } else {
+                        return SelfContainedSaveOrder.of(so);
+                    }
+                })
+                .orElse(SaveOrder.getDefaultSaveOrder());
+    }
+
+    /**
+     * Appends the entries changed since the latest backup to the journal of the latest backup file.
+     *
+     * @return <code>false</code> if a full backup is required instead
+     */
+    private boolean appendToJournal() {
+        BackupJournal currentJournal;
+        List<BibEntry> entries;
+        Map<BibEntry, Boolean> entriesInLibrary;
+        Set<Field> fields;
+        synchronized (this) {
+            if ((journal == null) || needsFullBackup) {
+                return false;
+            }
+            currentJournal = journal;
+            entries = List.copyOf(changedEntriesInOrder);
+            entriesInLibrary = new IdentityHashMap<>(changedEntries);
+            fields = Set.copyOf(changedFields);
+            changedEntries.clear();
+            changedEntriesInOrder.clear();
+            changedFields.clear();
+        }
+        // Below, "false" lets the full backup write all changes, including the ones taken from the list above
+
+        if ((currentJournal.getNumberOfBackupEntries() == 0) || (bibDatabaseContext.getDatabase().getEntryCount() == 0)) {
+            // The journal cannot determine where to put entries if there are none in the backup file, and vice versa
+            return false;
+        }
+        if (getSaveOrder().getSortCriteria().stream().anyMatch(criterion -> fields.contains(criterion.field))) {
+            // Changing a field the entries are sorted by may move the entries, which only a full backup reflects
+            return false;
+        }
+
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        boolean generateMissingKeys = preferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving();
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), entryTypesManager);
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+        boolean reformat = preferences.getLibraryPreferences().shouldAlwaysReformatOnSave();
+
+        List<BackupJournal.EntryChange> changes = new ArrayList<>(entries.size());
+        try {
+            for (BibEntry entry : entries) {
+                // Empty entries are not written, see BibDatabaseWriter#saveDatabase
+                if (!entriesInLibrary.get(entry) || entry.isEmpty()) {
+                    changes.add(new BackupJournal.EntryChange(entry, Optional.empty()));
+                    continue;
+                }
+                if (entryTypesManager.isCustomType(entry.getType(), mode) || (generateMissingKeys && !entry.hasCitationKey())) {
+                    // The full backup also writes the type definition or the generated key
+                    return false;
+                }
+                BibDatabaseWriter.applySaveActions(entry, bibDatabaseContext.getMetaData());
+                StringWriter serialization = new StringWriter();
+                entryWriter.write(entry, new BibWriter(serialization, newLineSeparator), mode, reformat);
+                changes.add(new BackupJournal.EntryChange(entry, Optional.of(serialization.toString())));
+            }
+
+            if (currentJournal.size() > (MAXIMUM_JOURNAL_SIZE_RELATIVE_TO_BACKUP * currentJournal.getBackupLength())) {
+                return false;
+            }
+            currentJournal.append(changes);
+        } catch (IOException e) {
+            LOGGER.warn("Could not append to backup journal, writing a full backup", e);
+            return false;
         }
+
+        synchronized (this) {
+            // Changes made meanwhile are backed up next time
+            this.needsBackup = !changedEntries.isEmpty() || needsFullBackup;
+        }
+        return true;
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -316,12 +489,29 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (event instanceof EntriesRemovedEvent removedEvent) {
+            removedEvent.getBibEntries().forEach(entry -> markChanged(entry, false));
+        } else if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            markChanged(fieldChangedEvent.getBibEntry(), true);
+            changedFields.add(fieldChangedEvent.getField());
+        } else {
+            // Other changes, for instance of the groups, are not journaled
+            // Added entries are not journaled either, as the journal cannot place them where saving places them
+            needsFullBackup = true;
+        }
+
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
     }
 
+    private void markChanged(BibEntry entry, boolean isInLibrary) {
+        if (changedEntries.put(entry, isInLibrary) == null) {
+            changedEntriesInOrder.add(entry);
+        }
+    }
+
     private void startBackupTask(Path backupDir) {
         fillQueue(backupDir);
 
@@ -341,9 +531,12 @@ public class BackupManager {
             // code similar to {@link org.jabref.logic.util.io.BackupFileUtil.getPathOfLatestExisingBackupFile}
             final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
             try {
+                String extension = "." + BackupFileType.BACKUP.getExtensions().getFirst();
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // journals and snapshots are not backup files on their own
+                                              .filter(p -> p.getFileName().toString().endsWith(extension))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -366,7 +559,45 @@ public class BackupManager {
 
         if (createBackup) {
             // Ensure that backup is a recent one
+            // A full backup is written, as it is compared with the library file when opening the library next time
+            synchronized (this) {
+                needsFullBackup = true;
+            }
             determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
         }
     }
+
+    /**
+     * Counts the characters written, which are the positions used by the {@link BackupJournal}
+     */
+    private static class CountingWriter extends FilterWriter {
+
+        private long count = 0;
+
+        CountingWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            super.write(buffer, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            super.write(string, offset, length);
+            count += length;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
 }
@@ -121,17 +121,11 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
-                        int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            DefaultTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
-                        }
+                        keyGenerator.generateAndSetKeys(entries, entriesDone -> DefaultTaskExecutor.runInJavaFXThread(() -> {
+                                        updateProgress(entriesDone, entries.size());
+                                        messageProperty().set(Localization.lang("%0/%1 entries", entriesDone, entries.size()));
+                                    }))
+                                    .forEach(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
                         compound.end();
                     });
                     return null;
@@ -1,6 +1,7 @@
 package org.jabref.gui.dialogs;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,7 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
@@ -80,7 +82,13 @@ public class BackupUIManager {
             BibDatabaseContext originalDatabase = originalParserResult.getDatabaseContext();
 
             Path backupPath = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, preferencesService.getFilePreferences().getBackupDirectory()).orElseThrow();
-            BibDatabaseContext backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            Optional<String> backupWithJournal = BackupManager.readBackupWithJournal(backupPath);
+            BibDatabaseContext backupDatabase;
+            if (backupWithJournal.isPresent()) {
+                backupDatabase = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(backupWithJournal.get())).getDatabaseContext();
+            } else {
+                backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            }
 
             DatabaseChangeResolverFactory changeResolverFactory = new DatabaseChangeResolverFactory(dialogService, originalDatabase, preferencesService);
 
@@ -30,6 +30,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -97,20 +98,12 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        new DuplicateFinder(entryTypesManager).findDuplicates(entries, databaseMode, (first, second) -> {
+            duplicates.add(Arrays.asList(first, second));
+            duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+        });
+        if (Thread.interrupted()) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
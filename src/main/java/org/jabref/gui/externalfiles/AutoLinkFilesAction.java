@@ -7,6 +7,7 @@ import javax.swing.undo.UndoManager;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.undo.NamedCompound;
@@ -50,7 +51,8 @@ public class AutoLinkFilesAction extends SimpleCommand {
         final AutoSetFileLinksUtil util = new AutoSetFileLinksUtil(
                 database,
                 preferences.getFilePreferences(),
-                preferences.getAutoLinkPreferences());
+                preferences.getAutoLinkPreferences(),
+                Globals.getDirectoryIndexService());
         final NamedCompound nc = new NamedCompound(Localization.lang("Automatically set file links"));
 
         Task<AutoSetFileLinksUtil.LinkFilesResult> linkFilesTask = new Task<>() {
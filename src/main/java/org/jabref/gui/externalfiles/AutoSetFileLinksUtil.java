@@ -16,6 +16,7 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectoryIndexService;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -23,6 +24,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.FilePreferences;
 
 import org.slf4j.Logger;
@@ -55,15 +57,28 @@ public class AutoSetFileLinksUtil {
     private final List<Path> directories;
     private final AutoLinkPreferences autoLinkPreferences;
     private final FilePreferences filePreferences;
+    private final DirectoryIndexService directoryIndexService;
 
+    /**
+     * Reads each file directory once for all entries linked by this instance.
+     */
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
-        this(databaseContext.getFileDirectories(filePreferences), filePreferences, autoLinkPreferences);
+        this(databaseContext, filePreferences, autoLinkPreferences, new DirectoryIndexService(new DummyFileUpdateMonitor()));
     }
 
-    private AutoSetFileLinksUtil(List<Path> directories, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
+    /**
+     * @param directoryIndexService shares the files of the file directories, e.g., between the instances created for
+     *                              the entry editor
+     */
+    public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, DirectoryIndexService directoryIndexService) {
+        this(databaseContext.getFileDirectories(filePreferences), filePreferences, autoLinkPreferences, directoryIndexService);
+    }
+
+    private AutoSetFileLinksUtil(List<Path> directories, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, DirectoryIndexService directoryIndexService) {
         this.directories = directories;
         this.autoLinkPreferences = autoLinkPreferences;
         this.filePreferences = filePreferences;
+        this.directoryIndexService = directoryIndexService;
     }
 
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
@@ -109,7 +124,7 @@ public class AutoSetFileLinksUtil {
         List<String> extensions = filePreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
 
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences, directoryIndexService);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
         // Collect the found files that are not yet linked
@@ -305,7 +305,7 @@ public class ImportHandler {
                                                                                      .getKeyPattern()),
                 bibDatabaseContext.getDatabase(),
                 preferencesService.getCitationKeyPatternPreferences());
-        entries.forEach(keyGenerator::generateAndSetKey);
+        keyGenerator.generateAndSetKeys(entries);
     }
 
     public List<BibEntry> handleBibTeXData(String entries) {
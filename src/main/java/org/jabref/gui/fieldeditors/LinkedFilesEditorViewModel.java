@@ -21,6 +21,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.Globals;
 import org.jabref.gui.autocompleter.SuggestionProvider;
 import org.jabref.gui.externalfiles.AutoSetFileLinksUtil;
 import org.jabref.gui.externalfiletype.CustomExternalFileType;
@@ -206,7 +207,8 @@ public class LinkedFilesEditorViewModel extends AbstractEditorViewModel {
         AutoSetFileLinksUtil util = new AutoSetFileLinksUtil(
                 databaseContext,
                 preferences.getFilePreferences(),
-                preferences.getAutoLinkPreferences());
+                preferences.getAutoLinkPreferences(),
+                Globals.getDirectoryIndexService());
         try {
             List<LinkedFile> linkedFiles = util.findAssociatedNotLinkedFiles(entry);
             for (LinkedFile linkedFile : linkedFiles) {
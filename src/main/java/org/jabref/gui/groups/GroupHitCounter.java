@@ -0,0 +1,139 @@
+package org.jabref.gui.groups;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Counts the entries matched by the groups of a library in the background.
+ * <p>
+ * Changes of the library are collected for a short time, then only the groups depending on the changed fields are
+ * counted again. The missing entries of the groups are computed in parallel by the {@link GroupMembershipIndex}, and
+ * the new counts are published to the JavaFX thread in one update. Thus, counting never blocks editing.
+ */
+class GroupHitCounter {
+
+    private static final int DELAY_IN_MILLISECONDS = 200;
+
+    private static final Map<BibDatabaseContext, GroupHitCounter> COUNTERS = new MapMaker().weakKeys().makeMap();
+
+    private final GroupMembershipIndex index;
+    private final TaskExecutor taskExecutor;
+    private final GroupsPreferences groupsPreferences;
+    // Weak keys are compared by identity, which is required as nodes are equal if their groups are
+    private final Map<GroupTreeNode, IntegerProperty> hits = new MapMaker().weakKeys().makeMap();
+    // Counting is done one after another, so that the counts are published in the order they were computed
+    private final Object countLock = new Object();
+
+    // Changes since the last count, guarded by this
+    private final Set<GroupTreeNode> nodesToCount = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Field> changedFields = new HashSet<>();
+    private boolean entriesAddedOrRemoved;
+    private boolean isCountScheduled;
+
+    private GroupHitCounter(GroupMembershipIndex index, TaskExecutor taskExecutor, GroupsPreferences groupsPreferences) {
+        this.index = index;
+        this.taskExecutor = taskExecutor;
+        this.groupsPreferences = groupsPreferences;
+    }
+
+    /**
+     * Returns the counter of the given library. The counter is created on first access.
+     */
+    static GroupHitCounter forDatabase(BibDatabaseContext databaseContext, TaskExecutor taskExecutor, GroupsPreferences groupsPreferences) {
+        return COUNTERS.computeIfAbsent(databaseContext, context -> {
+            GroupMembershipIndex index = GroupMembershipIndex.forDatabase(context.getDatabase());
+            GroupHitCounter counter = new GroupHitCounter(index, taskExecutor, groupsPreferences);
+            index.addChangeListener(counter::onIndexChanged);
+            return counter;
+        });
+    }
+
+    /**
+     * Returns the number of entries matched by the given group node. The number is updated whenever the library changes.
+     */
+    ReadOnlyIntegerProperty getHits(GroupTreeNode node) {
+        return hits.computeIfAbsent(node, key -> new SimpleIntegerProperty());
+    }
+
+    /**
+     * Counts the entries of the given group node again, e.g., because the group changed
+     */
+    void refresh(GroupTreeNode node) {
+        getHits(node);
+        synchronized (this) {
+            nodesToCount.add(node);
+        }
+        scheduleCount();
+    }
+
+    private void onIndexChanged(Optional<Field> changedField) {
+        synchronized (this) {
+            changedField.ifPresentOrElse(changedFields::add, () -> entriesAddedOrRemoved = true);
+        }
+        scheduleCount();
+    }
+
+    private void scheduleCount() {
+        synchronized (this) {
+            if (isCountScheduled) {
+                // The changes are counted by the scheduled count
+                return;
+            }
+            isCountScheduled = true;
+        }
+        taskExecutor.schedule(BackgroundTask.wrap(this::count).onSuccess(this::publish), DELAY_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+
+    private Map<GroupTreeNode, Integer> count() {
+        synchronized (countLock) {
+            List<GroupTreeNode> nodes;
+            synchronized (this) {
+                isCountScheduled = false;
+                nodes = hits.keySet().stream()
+                            .filter(node -> entriesAddedOrRemoved || nodesToCount.contains(node) || index.dependsOnAny(node, changedFields))
+                            .toList();
+                nodesToCount.clear();
+                changedFields.clear();
+                entriesAddedOrRemoved = false;
+            }
+            if (!groupsPreferences.shouldDisplayGroupCount()) {
+                return Map.of();
+            }
+
+            index.computeMembers(nodes);
+            Map<GroupTreeNode, Integer> counts = new IdentityHashMap<>();
+            for (GroupTreeNode node : nodes) {
+                counts.put(node, index.getNumberOfMatches(node));
+            }
+            return counts;
+        }
+    }
+
+    private void publish(Map<GroupTreeNode, Integer> counts) {
+        counts.forEach((node, count) -> {
+            IntegerProperty nodeHits = hits.get(node);
+            if (nodeHits != null) {
+                nodeHits.set(count);
+            }
+        });
+    }
+}
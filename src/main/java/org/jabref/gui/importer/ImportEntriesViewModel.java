@@ -12,6 +12,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -26,6 +27,7 @@ import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.database.DatabaseMerger;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateIndex;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
@@ -56,6 +58,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final PreferencesService preferences;
     private final BibEntryTypesManager entryTypesManager;
     private final ObjectProperty<BibDatabaseContext> selectedDb;
+    private final DuplicateIndex internalDuplicateIndex = new DuplicateIndex(List.of());
 
     /**
      * @param databaseContext the database to import into
@@ -79,6 +82,12 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.entryTypesManager = entryTypesManager;
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.entries = FXCollections.observableArrayList();
+        this.entries.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(internalDuplicateIndex::remove);
+                change.getAddedSubList().forEach(internalDuplicateIndex::add);
+            }
+        });
         this.message = new SimpleStringProperty();
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
@@ -216,11 +225,12 @@ public class ImportEntriesViewModel extends AbstractViewModel {
      * @return A possible duplicate, if any, or null if none were found.
      */
     private Optional<BibEntry> findInternalDuplicate(BibEntry entry) {
-        for (BibEntry othEntry : entries) {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        for (BibEntry othEntry : internalDuplicateIndex.getCandidates(entry)) {
             if (othEntry.equals(entry)) {
                 continue; // Don't compare the entry to itself
             }
-            if (new DuplicateCheck(entryTypesManager).isDuplicate(entry, othEntry, databaseContext.getMode())) {
+            if (duplicateCheck.isDuplicate(entry, othEntry, databaseContext.getMode())) {
                 return Optional.of(othEntry);
             }
         }
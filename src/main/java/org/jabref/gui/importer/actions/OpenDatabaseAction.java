@@ -226,9 +226,16 @@ public class OpenDatabaseAction extends SimpleCommand {
         try {
             if (parserResult == null) {
                 // No backup was restored, do the "normal" loading
-                parserResult = OpenDatabase.loadDatabase(fileToLoad,
-                        preferencesService.getImportFormatPreferences(),
-                        fileUpdateMonitor);
+                if (preferencesService.getFilePreferences().shouldCreateBackup()) {
+                    parserResult = OpenDatabase.loadDatabase(fileToLoad,
+                            preferencesService.getImportFormatPreferences(),
+                            fileUpdateMonitor,
+                            backupDir);
+                } else {
+                    parserResult = OpenDatabase.loadDatabase(fileToLoad,
+                            preferencesService.getImportFormatPreferences(),
+                            fileUpdateMonitor);
+                }
             }
 
             if (parserResult.hasWarnings()) {
@@ -2,6 +2,7 @@ package org.jabref.gui.integrity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
@@ -66,15 +67,10 @@ public class IntegrityCheckAction extends SimpleCommand {
             protected List<IntegrityMessage> call() {
                 ObservableList<BibEntry> entries = database.getDatabase().getEntries();
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
+                AtomicInteger checkedEntries = new AtomicInteger();
+                int numberOfEntries = entries.size();
+                result.addAll(check.checkEntries(entries, this::isCancelled,
+                        () -> updateProgress(checkedEntries.incrementAndGet(), numberOfEntries)));
 
                 return result;
             }
@@ -1,7 +1,10 @@
 package org.jabref.gui.maintable;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -15,13 +18,15 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.search.IncrementalSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -33,11 +38,20 @@ public class MainTableDataModel {
     private final GroupsPreferences groupsPreferences;
     private final NameDisplayPreferences nameDisplayPreferences;
     private final BibDatabaseContext bibDatabaseContext;
-
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    private final GroupMembershipIndex groupIndex;
+    private final IncrementalSearcher searcher;
+    private final TaskExecutor taskExecutor;
+    // Result of the search for the active query, empty if there is no active query
+    private final ObjectProperty<Optional<IncrementalSearcher.SearchResult>> searchResult = new SimpleObjectProperty<>(Optional.empty());
+    private BackgroundTask<Optional<IncrementalSearcher.SearchResult>> searchTask;
+
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
         this.bibDatabaseContext = context;
+        this.groupIndex = GroupMembershipIndex.forDatabase(context.getDatabase());
+        this.searcher = new IncrementalSearcher(context.getDatabase());
+        this.taskExecutor = taskExecutor;
 
         resetFieldFormatter();
 
@@ -45,12 +59,20 @@ public class MainTableDataModel {
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
+        // The table is filtered by the search result once it is available, not while the user is typing
+        EasyBind.subscribe(stateManager.activeSearchQueryProperty(), this::search);
+
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
                 EasyBind.combine(stateManager.activeGroupProperty(),
-                        stateManager.activeSearchQueryProperty(),
+                        searchResult,
                         groupsPreferences.groupViewModeProperty(),
-                        (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry))
+                        (groups, result, groupViewMode) -> {
+                            // Determine the matchers once per selection and search result instead of once per entry
+                            Optional<Predicate<BibEntry>> groupMatcher = createGroupMatcher(groups, groupViewMode);
+                            Optional<Predicate<BibEntry>> searchMatcher = result.map(SearchResultMatcher::new);
+                            return entry -> isMatched(groupMatcher, entry) && isMatched(searchMatcher, entry);
+                        })
         );
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
@@ -60,36 +82,49 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
-    }
+    /**
+     * Searches the entries matched by the given query in the background. A search still running is cancelled, as its
+     * result is no longer needed.
+     */
+    private void search(Optional<SearchQuery> query) {
+        if (searchTask != null) {
+            searchTask.cancel();
+            searchTask = null;
+        }
+        if (query.isEmpty()) {
+            searchResult.set(Optional.empty());
+            return;
+        }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+        BackgroundTask<Optional<IncrementalSearcher.SearchResult>> task = new BackgroundTask<>() {
+            @Override
+            protected Optional<IncrementalSearcher.SearchResult> call() {
+                return searcher.search(query.get(), this::isCanceled);
+            }
+        };
+        task.onSuccess(result -> {
+            // The result of a search which was cancelled too late is dropped
+            if (searchTask == task) {
+                searchTask = null;
+                result.ifPresent(matches -> searchResult.set(Optional.of(matches)));
+            }
+        });
+        searchTask = task;
+        task.executeWith(taskExecutor);
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatched(Optional<Predicate<BibEntry>> matcher, BibEntryTableViewModel entry) {
+        return matcher.map(entryMatcher -> entryMatcher.test(entry.getEntry()))
+                      .orElse(true);
     }
 
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private Optional<Predicate<BibEntry>> createGroupMatcher(ObservableList<GroupTreeNode> selectedGroups, GroupViewMode groupViewMode) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode() == GroupViewMode.INTERSECTION
-                        ? MatcherSets.MatcherType.AND
-                        : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        return Optional.of(groupIndex.createMatcher(selectedGroups, groupViewMode == GroupViewMode.INTERSECTION));
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -99,4 +134,28 @@ public class MainTableDataModel {
     public void resetFieldFormatter() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
+
+    /**
+     * Filters the entries by a search result. When the result is applied, each entry is looked up in the result. Later
+     * on, an entry is only tested again if it changed. The table is notified about a change before the search index,
+     * thus a changed entry is matched against the query directly.
+     */
+    private static class SearchResultMatcher implements Predicate<BibEntry> {
+
+        private final IncrementalSearcher.SearchResult result;
+        // Entries are equal if their content is, thus we need to compare by identity
+        private final Set<BibEntry> testedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SearchResultMatcher(IncrementalSearcher.SearchResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(BibEntry entry) {
+            if (testedEntries.add(entry)) {
+                return result.isMatch(entry);
+            }
+            return result.getQuery().isMatch(entry);
+        }
+    }
 }
@@ -11,9 +11,11 @@ import java.util.regex.PatternSyntaxException;
 import javax.swing.undo.UndoManager;
 
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -108,6 +110,9 @@ public class GlobalSearchBar extends HBox {
 
     private final BooleanProperty globalSearchActive = new SimpleBooleanProperty(false);
     private GlobalSearchResultDialog globalSearchResultDialog;
+    // The search runs in the background, thus the number of results is shown again when the search has finished
+    private final InvalidationListener onResultSizeChanged = observable -> stateManager.activeSearchQueryProperty().get().ifPresent(this::updateSearchResultsForQuery);
+    private IntegerProperty observedResultSize;
 
     public GlobalSearchBar(LibraryTabContainer tabContainer,
                            StateManager stateManager,
@@ -234,7 +239,15 @@ public class GlobalSearchBar extends HBox {
     }
 
     private void updateSearchResultsForQuery(SearchQuery query) {
-        updateResults(this.stateManager.getSearchResultSize().intValue(), SearchDescribers.getSearchDescriberFor(query).getDescription(),
+        IntegerProperty resultSize = this.stateManager.getSearchResultSize();
+        if (resultSize != observedResultSize) {
+            if (observedResultSize != null) {
+                observedResultSize.removeListener(onResultSizeChanged);
+            }
+            resultSize.addListener(onResultSizeChanged);
+            observedResultSize = resultSize;
+        }
+        updateResults(resultSize.intValue(), SearchDescribers.getSearchDescriberFor(query).getDescription(),
                 query.isGrammarBasedSearch());
     }
 
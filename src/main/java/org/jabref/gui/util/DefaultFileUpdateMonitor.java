@@ -8,7 +8,12 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -19,6 +24,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +39,12 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    // Directories are registered and notified from different threads, e.g., by the DirectoryIndexService
+    private final Multimap<Path, FileUpdateListener> directoryListeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create());
+    // The keys of the directories monitored for directory listeners, guarded by directoryListeners
+    private final Map<Path, WatchKey> directoryKeys = new HashMap<>();
+    // Directories monitored for file listeners, which are monitored as long as JabRef runs
+    private final Set<Path> directoriesOfFiles = ConcurrentHashMap.newKeySet();
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private final AtomicReference<Optional<JabRefException>> filesystemMonitorFailure = new AtomicReference<>(Optional.empty());
@@ -54,15 +66,20 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                 for (WatchEvent<?> event : key.pollEvents()) {
                     WatchEvent.Kind<?> kind = event.kind();
 
+                    Path directory = (Path) key.watchable();
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
+                        // Events were lost, thus the directory listeners cannot rely on their state anymore
+                        notifyAboutDirectoryChange(directory);
                         Thread.yield();
                         continue;
                     } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
                         // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
-                        notifyAboutChange(path);
+                        notifyAboutChange(directory.resolve(ev.context()));
+                        notifyAboutDirectoryChange(directory);
+                    } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                        notifyAboutDirectoryChange(directory);
                     }
                     key.reset();
                 }
@@ -85,21 +102,66 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
+    private void notifyAboutDirectoryChange(Path directory) {
+        List<FileUpdateListener> listenersOfDirectory;
+        synchronized (directoryListeners) {
+            listenersOfDirectory = List.copyOf(directoryListeners.get(directory));
+        }
+        listenersOfDirectory.forEach(FileUpdateListener::fileUpdated);
+    }
+
     @Override
     public void addListenerForFile(Path file, FileUpdateListener listener) throws IOException {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            register(directory);
+            directoriesOfFiles.add(directory);
             listeners.put(file, listener);
         } else {
             LOGGER.warn("Not adding listener {} to file {} because the file update monitor isn't active", listener, file);
         }
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+        if (isActive()) {
+            Path absoluteDirectory = directory.toAbsolutePath();
+            synchronized (directoryListeners) {
+                directoryKeys.put(absoluteDirectory, register(absoluteDirectory));
+                directoryListeners.put(absoluteDirectory, listener);
+            }
+        } else {
+            LOGGER.warn("Not adding listener {} to directory {} because the file update monitor isn't active", listener, directory);
+        }
+    }
+
+    /**
+     * Registers the given directory at the watch service. Registering a directory again returns the same key.
+     */
+    private WatchKey register(Path directory) throws IOException {
+        return directory.register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+
+        Path absoluteDirectory = path.toAbsolutePath();
+        synchronized (directoryListeners) {
+            if (directoryListeners.remove(absoluteDirectory, listener)
+                    && !directoryListeners.containsKey(absoluteDirectory)
+                    && !directoriesOfFiles.contains(absoluteDirectory)) {
+                // Stop watching the directory, as the operating system limits the number of watched directories
+                WatchKey key = directoryKeys.remove(absoluteDirectory);
+                if (key != null) {
+                    key.cancel();
+                }
+            }
+        }
     }
 
     @Override
@@ -28,5 +28,7 @@ public class Application extends jakarta.ws.rs.core.Application {
     private void initialize() {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferenceServiceFactory());
+        // One cache for all requests, thus a constant
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
     }
 }
@@ -0,0 +1,125 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the libraries served by the server parsed in memory, together with the payloads already sent for them.
+ * <p>
+ * A cached library stays valid as long as size and modification time of its file and the preferences used for parsing
+ * do not change. Otherwise, the file is parsed again on the next request. A library is only parsed when a payload
+ * needs the parsed entries, the BibTeX source is served as it is.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+
+    public CachedLibrary get(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Path key = library.toAbsolutePath().normalize();
+        // The state is determined before parsing: if the file changes while parsing, the next request parses again
+        FileState fileState = FileState.of(key);
+        ParserSettings parserSettings = ParserSettings.of(importFormatPreferences);
+        CachedLibrary cachedLibrary = libraries.get(key);
+        if ((cachedLibrary != null) && cachedLibrary.fileState.equals(fileState) && cachedLibrary.parserSettings.equals(parserSettings)) {
+            return cachedLibrary;
+        }
+
+        cachedLibrary = new CachedLibrary(key, importFormatPreferences, fileState, parserSettings);
+        libraries.put(key, cachedLibrary);
+        return cachedLibrary;
+    }
+
+    private record FileState(long size, FileTime lastModified) {
+        static FileState of(Path file) throws IOException {
+            return new FileState(Files.size(file), Files.getLastModifiedTime(file));
+        }
+    }
+
+    /**
+     * The values of the import preferences the parsed library depends on. The fields are kept by name, so that the hash
+     * code used in the entity tag is the same after a restart.
+     */
+    private record ParserSettings(Character keywordSeparator,
+                                  boolean resolveStrings,
+                                  List<String> resolvableFields,
+                                  List<String> nonWrappableFields) {
+        static ParserSettings of(ImportFormatPreferences importFormatPreferences) {
+            FieldPreferences fieldPreferences = importFormatPreferences.fieldPreferences();
+            return new ParserSettings(
+                    importFormatPreferences.bibEntryPreferences().getKeywordSeparator(),
+                    fieldPreferences.shouldResolveStrings(),
+                    fieldPreferences.getResolvableFields().stream().map(Field::getName).toList(),
+                    fieldPreferences.getNonWrappableFields().stream().map(Field::getName).toList());
+        }
+    }
+
+    public static class CachedLibrary {
+
+        private final Path path;
+        private final ImportFormatPreferences importFormatPreferences;
+        private final FileState fileState;
+        private final ParserSettings parserSettings;
+        private final Map<String, String> payloads = new ConcurrentHashMap<>();
+        private ParserResult parserResult;
+
+        private CachedLibrary(Path path, ImportFormatPreferences importFormatPreferences, FileState fileState, ParserSettings parserSettings) {
+            this.path = path;
+            this.importFormatPreferences = importFormatPreferences;
+            this.fileState = fileState;
+            this.parserSettings = parserSettings;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the parsed library. The file is parsed on the first call only.
+         *
+         * @throws IOException if the file cannot be read
+         */
+        public synchronized ParserResult getParserResult() throws IOException {
+            if (parserResult == null) {
+                LOGGER.debug("Parsing library {}", path);
+                parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(path);
+            }
+            return parserResult;
+        }
+
+        /**
+         * Returns the payload of the given media type. The payload is created by the given serializer on first request only.
+         */
+        public String getPayload(String mediaType, Supplier<String> serializer) {
+            return payloads.computeIfAbsent(mediaType, type -> serializer.get());
+        }
+
+        /**
+         * The tag differs per media type, because all representations of a library are served at the same URL. It also
+         * differs per preferences, because they change the parsed library.
+         */
+        public EntityTag getEntityTag(String mediaType) {
+            return new EntityTag(fileState.size() + "-" + fileState.lastModified().toMillis()
+                    + "-" + Integer.toHexString(parserSettings.hashCode())
+                    + "-" + Integer.toHexString(mediaType.hashCode()));
+        }
+    }
+}
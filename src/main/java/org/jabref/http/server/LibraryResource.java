@@ -4,16 +4,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.jabref.gui.Globals;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
@@ -24,7 +23,10 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,52 +41,84 @@ public class LibraryResource {
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
+    @Context
+    Request request;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id) {
+        LibraryCache.CachedLibrary library = getCachedLibrary(id);
+        return respond(library, MediaType.APPLICATION_JSON, () -> {
+            ParserResult parserResult = getParserResult(library);
+            List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
+                                                 .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
+                                                 .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager))
+                                                 .toList();
+            return gson.toJson(list);
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id) {
+        LibraryCache.CachedLibrary library = getCachedLibrary(id);
+        return respond(library, JabrefMediaType.JSON_CSL_ITEM, () -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(getParserResult(library).getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
+    }
+
+    @GET
+    @Produces(JabrefMediaType.BIBTEX)
+    public Response getBibtex(@PathParam("id") String id) {
+        LibraryCache.CachedLibrary library = getCachedLibrary(id);
+        return respond(library, JabrefMediaType.BIBTEX, () -> {
+            try {
+                return Files.readString(library.getPath());
+            } catch (IOException e) {
+                LOGGER.error("Could not read library {}", library.getPath(), e);
+                throw new InternalServerErrorException("Could not read library " + library.getPath(), e);
+            }
+        });
     }
 
-    private ParserResult getParserResult(String id) {
+    /**
+     * Answers with "304 Not Modified" if the client already has the current payload (If-None-Match), otherwise with the
+     * (cached) payload and its entity tag.
+     */
+    private Response respond(LibraryCache.CachedLibrary library, String mediaType, Supplier<String> serializer) {
+        EntityTag entityTag = library.getEntityTag(mediaType);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok()
+                       .entity(library.getPayload(mediaType, serializer))
+                       .tag(entityTag)
+                       .build();
+    }
+
+    private LibraryCache.CachedLibrary getCachedLibrary(String id) {
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            return libraryCache.get(library, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
+            throw new InternalServerErrorException("Could not find library", e);
         }
-        return parserResult;
     }
 
-    @GET
-    @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+    private ParserResult getParserResult(LibraryCache.CachedLibrary library) {
         try {
-            libraryAsString = Files.readString(library);
+            return library.getParserResult();
         } catch (IOException e) {
-            LOGGER.error("Could not read library {}", library, e);
-            throw new InternalServerErrorException("Could not read library " + library, e);
+            LOGGER.warn("Could not parse library file {}", library.getPath(), e);
+            throw new InternalServerErrorException("Could not parse library", e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
-                .build();
     }
 
     private java.nio.file.Path getLibraryPath(String id) {
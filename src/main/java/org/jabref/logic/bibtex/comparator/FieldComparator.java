@@ -1,11 +1,13 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -172,4 +174,74 @@ public class FieldComparator implements Comparator<BibEntry> {
         String theirs = f2.toLowerCase(Locale.ENGLISH);
         return COLLATOR.compare(ours, theirs) * multiplier;
     }
+
+    /**
+     * Computes the key the given entry is sorted by. Comparing the keys of two entries using {@link #compareSortKeys}
+     * gives the same result as {@link #compare comparing} the entries, but the field value is normalized once per entry
+     * instead of once per comparison.
+     */
+    public SortKey getSortKey(BibEntry entry) {
+        String value = fieldType == FieldType.TYPE ? entry.getType().getDisplayName() : getFieldValue(entry);
+        if (value == null) {
+            return SortKey.MISSING;
+        }
+
+        if (fieldType == FieldType.NAME) {
+            value = AuthorList.fixAuthorForAlphabetization(value);
+        } else if (fieldType == FieldType.YEAR) {
+            int year;
+            try {
+                year = StringUtil.intValueOf(value);
+            } catch (NumberFormatException ex) {
+                year = 0;
+            }
+            return new SortKey(true, OptionalInt.of(year), null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(true, OptionalInt.of(Month.parse(value).map(Month::getNumber).orElse(-1)), null);
+        }
+
+        if (isNumeric) {
+            try {
+                return new SortKey(true, OptionalInt.of(StringUtil.intValueOf(value)), null);
+            } catch (NumberFormatException ex) {
+                // Fall back on comparing strings
+            }
+        }
+        return new SortKey(true, OptionalInt.empty(), COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    public int compareSortKeys(SortKey key1, SortKey key2) {
+        if (!key1.present() && !key2.present()) {
+            return 0;
+        } else if (!key1.present()) {
+            return -multiplier;
+        } else if (!key2.present()) {
+            return +multiplier;
+        }
+
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(key1.number().getAsInt(), key2.number().getAsInt()) * multiplier;
+        }
+        if (key1.number().isPresent() && key2.number().isPresent()) {
+            return Integer.compare(key1.number().getAsInt(), key2.number().getAsInt()) * multiplier;
+        } else if (key1.number().isPresent()) {
+            // Numbers come before strings
+            return -1 * multiplier;
+        } else if (key2.number().isPresent()) {
+            return multiplier;
+        }
+        return key1.text().compareTo(key2.text()) * multiplier;
+    }
+
+    /**
+     * Normalized value of the field of an entry
+     *
+     * @param present whether the entry has the field
+     * @param number  the value as number, if the field is numeric and the value a number
+     * @param text    the value as collation key, if it is not compared as number
+     */
+    public record SortKey(boolean present, OptionalInt number, CollationKey text) {
+
+        private static final SortKey MISSING = new SortKey(false, OptionalInt.empty(), null);
+    }
 }
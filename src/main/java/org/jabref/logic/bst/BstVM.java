@@ -6,7 +6,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -29,6 +31,9 @@ public class BstVM {
     protected final ParseTree tree;
     protected BstVMContext latestContext; // for testing
 
+    // The function bodies of the tree, compiled once and reused by all renderings
+    private final Map<BstParser.StackContext, BstVMVisitor.Instruction[]> compiledStacks = new ConcurrentHashMap<>();
+
     private Path path = null;
 
     public BstVM(Path path) throws RecognitionException, IOException {
@@ -81,7 +86,7 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, compiledStacks);
         bstVMVisitor.visit(tree);
 
         latestContext = bstVMContext;
@@ -1,7 +1,9 @@
 package org.jabref.logic.bst;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -25,15 +27,33 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    private final Map<BstParser.StackContext, Instruction[]> compiledStacks;
 
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
+    /**
+     * An item of a compiled stack, i.e., of a function body
+     */
+    @FunctionalInterface
+    interface Instruction {
+
+        void execute(BstVMVisitor visitor);
+    }
+
     public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+        this(bstVMContext, bbl, new HashMap<>());
+    }
+
+    /**
+     * @param compiledStacks the stacks compiled so far, which can be shared by all visitors of the same parse tree
+     */
+    BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, Map<BstParser.StackContext, Instruction[]> compiledStacks) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.compiledStacks = compiledStacks;
     }
 
     @Override
@@ -74,9 +94,11 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     @Override
     public Integer visitReadCommand(BstParser.ReadCommandContext ctx) {
         FieldWriter fieldWriter = new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList()));
+        // All entries have the same fields, thus their names are parsed once
+        Map<String, Field> parsedFields = new HashMap<>();
         for (BstEntry e : bstVMContext.entries()) {
             for (Map.Entry<String, String> mEntry : e.fields.entrySet()) {
-                Field field = FieldFactory.parseField(mEntry.getKey());
+                Field field = parsedFields.computeIfAbsent(mEntry.getKey(), FieldFactory::parseField);
                 String fieldValue = e.entry.getResolvedFieldOrAlias(field, bstVMContext.bibDatabase())
                                            .map(content -> {
                                                try {
@@ -221,43 +243,91 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitBstFunction(BstParser.BstFunctionContext ctx) {
-        String name = ctx.getChild(0).getText();
-        if (bstVMContext.functions().containsKey(name)) {
-            bstVMContext.functions().get(name).execute(this, ctx, selectedBstEntry);
-        } else {
-            visit(ctx.getChild(0));
+        callFunction(ctx.getChild(0).getText(), ctx);
+        return BstVM.TRUE;
+    }
+
+    private void callFunction(String name, BstParser.BstFunctionContext ctx) {
+        BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+        if (function != null) {
+            function.execute(this, ctx, selectedBstEntry);
+        } else if (ctx.identifier() != null) {
+            resolveIdentifier(name, ctx.identifier());
+        }
+    }
+
+    /**
+     * Runs the items of the stack. The stack is compiled on its first run, so that running a function again neither
+     * walks its parse tree nor parses its literals and names again.
+     */
+    @Override
+    public Integer visitStack(BstParser.StackContext ctx) {
+        Instruction[] instructions = compiledStacks.get(ctx);
+        if (instructions == null) {
+            instructions = compile(ctx);
+            compiledStacks.put(ctx, instructions);
         }
 
+        run(instructions);
         return BstVM.TRUE;
     }
 
+    /**
+     * Runs the items of a single stack item. Stack items are run as part of their stack, this is only used if a stack
+     * item is visited on its own.
+     */
     @Override
     public Integer visitStackitem(BstParser.StackitemContext ctx) {
-        for (ParseTree childNode : ctx.children) {
-            try {
-                if (childNode instanceof TerminalNode token) {
-                    switch (token.getSymbol().getType()) {
-                        case BstParser.STRING -> {
-                            String s = token.getText();
-                            bstVMContext.stack().push(s.substring(1, s.length() - 1));
-                        }
-                        case BstParser.INTEGER ->
-                                bstVMContext.stack().push(Integer.parseInt(token.getText().substring(1)));
-                        case BstParser.QUOTED ->
-                                bstVMContext.stack().push(new Identifier(token.getText().substring(1)));
+        List<Instruction> instructions = new ArrayList<>();
+        compile(ctx, instructions);
+        run(instructions.toArray(Instruction[]::new));
+        return BstVM.TRUE;
+    }
+
+    private void run(Instruction[] instructions) {
+        try {
+            for (Instruction instruction : instructions) {
+                instruction.execute(this);
+            }
+        } catch (BstVMException e) {
+            bstVMContext.path().ifPresentOrElse(
+                    path -> LOGGER.error("{} ({})", e.getMessage(), path),
+                    () -> LOGGER.error(e.getMessage()));
+            throw e;
+        }
+    }
+
+    private static Instruction[] compile(BstParser.StackContext ctx) {
+        List<Instruction> instructions = new ArrayList<>();
+        for (BstParser.StackitemContext stackitem : ctx.stackitem()) {
+            compile(stackitem, instructions);
+        }
+        return instructions.toArray(Instruction[]::new);
+    }
+
+    private static void compile(BstParser.StackitemContext stackitem, List<Instruction> instructions) {
+        for (ParseTree childNode : stackitem.children) {
+            if (childNode instanceof TerminalNode token) {
+                switch (token.getSymbol().getType()) {
+                    case BstParser.STRING -> {
+                        String s = token.getText();
+                        instructions.add(push(s.substring(1, s.length() - 1)));
                     }
-                } else if (childNode instanceof BstParser.StackContext) {
-                    bstVMContext.stack().push(childNode);
-                } else {
-                    this.visit(childNode);
+                    case BstParser.INTEGER ->
+                            instructions.add(push(Integer.parseInt(token.getText().substring(1))));
+                    case BstParser.QUOTED ->
+                            instructions.add(push(new Identifier(token.getText().substring(1))));
                 }
-            } catch (BstVMException e) {
-                bstVMContext.path().ifPresentOrElse(
-                        path -> LOGGER.error("{} ({})", e.getMessage(), path),
-                        () -> LOGGER.error(e.getMessage()));
-                throw e;
+            } else if (childNode instanceof BstParser.StackContext) {
+                instructions.add(push(childNode));
+            } else if (childNode instanceof BstParser.BstFunctionContext function) {
+                String name = function.getChild(0).getText();
+                instructions.add(visitor -> visitor.callFunction(name, function));
             }
         }
-        return BstVM.TRUE;
+    }
+
+    private static Instruction push(Object item) {
+        return visitor -> visitor.bstVMContext.stack().push(item);
     }
 }
@@ -1,10 +1,16 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -71,6 +77,26 @@ public class CitationKeyGenerator extends BracketedPattern {
         }
     }
 
+    /**
+     * Computes the number of an appendix, the inverse of {@link #getAppendix(int)}.
+     *
+     * @return the number, or an empty optional if the string is no appendix
+     */
+    private static OptionalInt getAppendixNumber(String appendix) {
+        if (appendix.isEmpty() || (appendix.length() > 6)) {
+            return OptionalInt.empty();
+        }
+        int number = 0;
+        for (char character : appendix.toCharArray()) {
+            int index = APPENDIX_CHARACTERS.indexOf(character);
+            if (index < 0) {
+                return OptionalInt.empty();
+            }
+            number = (number * APPENDIX_CHARACTERS.length()) + index + 1;
+        }
+        return OptionalInt.of(number - 1);
+    }
+
     public static String removeDefaultUnwantedCharacters(String key) {
         return removeUnwantedCharacters(key, DEFAULT_UNWANTED_CHARACTERS);
     }
@@ -99,23 +125,29 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(BibEntry entry) {
+        return generateKey(entry, new HashMap<>());
+    }
+
+    private String generateKey(BibEntry entry, Map<String, Integer> appendixNumbersInUse) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
         String newKey = createCitationKeyFromPattern(entry);
         newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        newKey = appendLettersToKey(newKey, currentKey, appendixNumbersInUse);
         return cleanKey(newKey, unwantedCharacters);
     }
 
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key                  the new key
+     * @param oldKey               the old key
+     * @param appendixNumbersInUse for each key, the appendix number from which on the appendices have to be tried, as
+     *                             all appendices before are known to be in use. Updated with the appendix chosen.
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
+    private String appendLettersToKey(String key, String oldKey, Map<String, Integer> appendixNumbersInUse) {
         long occurrences = database.getNumberOfCitationKeyOccurrences(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
@@ -131,6 +163,16 @@ public class CitationKeyGenerator extends BracketedPattern {
                     == CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
 
             int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+            int firstNumberNotInUse = appendixNumbersInUse.getOrDefault(key, number);
+            if (firstNumberNotInUse > number) {
+                // The old key is the only appendix before which may be free, as it may be used by this entry only
+                OptionalInt oldNumber = getOldAppendixNumber(key, oldKey);
+                if (oldNumber.isPresent() && (oldNumber.getAsInt() >= number) && (oldNumber.getAsInt() < firstNumberNotInUse)
+                        && (database.getNumberOfCitationKeyOccurrences(oldKey) <= 1)) {
+                    return oldKey;
+                }
+                number = firstNumberNotInUse;
+            }
             String moddedKey;
 
             do {
@@ -144,11 +186,19 @@ public class CitationKeyGenerator extends BracketedPattern {
                 }
             } while (occurrences > 0);
 
+            appendixNumbersInUse.put(key, number - 1);
             key = moddedKey;
         }
         return key;
     }
 
+    private static OptionalInt getOldAppendixNumber(String key, String oldKey) {
+        if ((oldKey == null) || !oldKey.startsWith(key)) {
+            return OptionalInt.empty();
+        }
+        return getAppendixNumber(oldKey.substring(key.length()));
+    }
+
     /**
      * Using preferences, replace matches to the provided regex with a string.
      *
@@ -214,4 +264,53 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries one after another, and sets the keys. The resulting keys are the
+     * same as when calling {@link #generateAndSetKey(BibEntry)} for each entry. As the appendices found to be in use are
+     * remembered during the run, entries getting the same key do not need to try all appendices from the start again.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(Collection<BibEntry> entries) {
+        return generateAndSetKeys(entries, entriesDone -> {
+        });
+    }
+
+    /**
+     * Generates citation keys for the given entries one after another, and sets the keys, see
+     * {@link #generateAndSetKeys(Collection)}.
+     *
+     * @param entries the entries to generate the keys for
+     * @param progress called with the number of entries done after the key of each entry is set
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(Collection<BibEntry> entries, IntConsumer progress) {
+        Map<String, Integer> appendixNumbersInUse = new HashMap<>();
+        List<FieldChange> changes = new ArrayList<>();
+        int entriesDone = 0;
+        for (BibEntry entry : entries) {
+            Optional<String> oldKey = entry.getCitationKey();
+            String newKey = generateKey(entry, appendixNumbersInUse);
+            entry.setCitationKey(newKey).ifPresent(changes::add);
+            oldKey.filter(key -> database.getNumberOfCitationKeyOccurrences(key) == 0)
+                  .ifPresent(freedKey -> forgetAppendicesInUse(appendixNumbersInUse, freedKey));
+            entriesDone++;
+            progress.accept(entriesDone);
+        }
+        return changes;
+    }
+
+    /**
+     * The freed key may be an appendix of any of its prefixes, which therefore have to be tried from the start again.
+     */
+    private static void forgetAppendicesInUse(Map<String, Integer> appendixNumbersInUse, String freedKey) {
+        if (appendixNumbersInUse.isEmpty()) {
+            return;
+        }
+        for (int length = 0; length < freedKey.length(); length++) {
+            appendixNumbersInUse.remove(freedKey.substring(0, length));
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * Blocking keys of an entry. Only entries sharing at least one key are compared using
+ * {@link DuplicateCheck#isDuplicate}, which avoids comparing each entry with all other entries.
+ * <p>
+ * The keys mirror the checks of {@link DuplicateCheck}: identifiers are compared regardless of the entry type, all other
+ * checks require the same entry type. Thus, all keys except the identifiers contain the entry type.
+ */
+class DuplicateBlockingKeys {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private DuplicateBlockingKeys() {
+    }
+
+    /**
+     * Keys which are always used, no matter how many entries share them: the identifiers, the complete normalized title
+     * and the family name of the first author together with the year. Entries having neither title nor author share a
+     * key per entry type, because {@link DuplicateCheck} may still consider them as duplicates based on other fields.
+     */
+    static Set<String> getExactKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add(field.getName() + ':' + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        String type = entry.getType().getName() + '|';
+        List<String> titleWords = getTitleWords(entry);
+        if (!titleWords.isEmpty()) {
+            keys.add(type + "title:" + String.join(" ", titleWords));
+        }
+        Optional<String> firstAuthor = getFirstAuthorFamilyName(entry);
+        firstAuthor.ifPresent(name -> keys.add(type + "author:" + name + '|' + entry.getFieldOrAlias(StandardField.YEAR).orElse("")));
+        if (titleWords.isEmpty() && firstAuthor.isEmpty()) {
+            keys.add(type + "untitled");
+        }
+        return keys;
+    }
+
+    /**
+     * Keys formed by pairs of consecutive title words (or the single word of one word titles). These catch titles
+     * differing in some words. Keys shared by a large number of entries (e.g. "of the") should be ignored.
+     */
+    static Set<String> getTitleNGramKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        String type = entry.getType().getName() + '|';
+        List<String> titleWords = getTitleWords(entry);
+        if (titleWords.size() == 1) {
+            keys.add(type + "ngram:" + titleWords.getFirst());
+        }
+        for (int i = 1; i < titleWords.size(); i++) {
+            keys.add(type + "ngram:" + titleWords.get(i - 1) + ' ' + titleWords.get(i));
+        }
+        return keys;
+    }
+
+    private static List<String> getTitleWords(BibEntry entry) {
+        List<String> words = new ArrayList<>();
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            for (String word : WORD_SEPARATOR.split(StringUtil.stripAccents(title).toLowerCase(Locale.ROOT))) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        });
+        return words;
+    }
+
+    private static Optional<String> getFirstAuthorFamilyName(BibEntry entry) {
+        Optional<String> authors = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                        .or(() -> entry.getFieldLatexFree(StandardField.EDITOR));
+        if (authors.isEmpty()) {
+            return Optional.empty();
+        }
+        AuthorList authorList = AuthorList.parse(authors.get());
+        if (authorList.isEmpty()) {
+            return Optional.empty();
+        }
+        return authorList.getAuthor(0).getLast()
+                         .map(name -> StringUtil.stripAccents(name).toLowerCase(Locale.ROOT))
+                         .filter(name -> !name.isBlank());
+    }
+}
@@ -365,9 +365,9 @@ public class DuplicateCheck {
     }
 
     /**
-     * Goes through all entries in the given database, and if at least one of
-     * them is a duplicate of the given entry, as per
-     * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
+     * Searches the given database for a duplicate of the given entry, as per
+     * {@link #isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}.
+     * Only the entries the {@link DuplicateIndex} of the database yields as candidates are checked.
      * The search is terminated when the first duplicate is found.
      *
      * @param database The database to search.
@@ -377,7 +377,17 @@ public class DuplicateCheck {
     public Optional<BibEntry> containsDuplicate(final BibDatabase database,
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
+        return containsDuplicate(DuplicateIndex.forDatabase(database), entry, bibDatabaseMode);
+    }
 
-        return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    /**
+     * Checks the candidates the given index yields for a duplicate of the given entry.
+     *
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateIndex index,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return index.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
 }
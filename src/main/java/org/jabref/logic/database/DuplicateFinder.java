@@ -0,0 +1,127 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds all pairs of duplicates in a list of entries.
+ * <p>
+ * Instead of comparing each entry with all other entries, the entries are grouped into buckets by their
+ * {@link DuplicateBlockingKeys blocking keys}. Only entries sharing a bucket are compared using
+ * {@link DuplicateCheck#isDuplicate}. The comparisons run in parallel.
+ */
+public class DuplicateFinder {
+
+    /**
+     * Title n-gram buckets larger than this consist of common phrases and are not used for finding candidates
+     */
+    static final int MAX_NGRAM_BUCKET_SIZE = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateFinder.class);
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * Finds all pairs of duplicates. The pairs are passed to the consumer one at a time as soon as they are found, in
+     * the same order as comparing each entry with all following entries would yield. The first element of a pair is
+     * always the one appearing first in the list.
+     * <p>
+     * The search stops early if the calling thread is interrupted.
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode, BiConsumer<BibEntry, BibEntry> consumer) {
+        BibEntry[] entryArray = entries.toArray(BibEntry[]::new);
+        List<List<int[]>> bucketsOfEntries = buildBuckets(entryArray);
+        Thread searchingThread = Thread.currentThread();
+
+        IntStream.range(0, entryArray.length)
+                 .parallel()
+                 .mapToObj(first -> {
+                     if (searchingThread.isInterrupted()) {
+                         return List.<int[]>of();
+                     }
+                     List<int[]> pairs = new ArrayList<>();
+                     for (int second : getCandidates(first, bucketsOfEntries.get(first))) {
+                         if (duplicateCheck.isDuplicate(entryArray[first], entryArray[second], bibDatabaseMode)) {
+                             pairs.add(new int[] {first, second});
+                         }
+                     }
+                     return pairs;
+                 })
+                 .forEachOrdered(pairs -> {
+                     for (int[] pair : pairs) {
+                         consumer.accept(entryArray[pair[0]], entryArray[pair[1]]);
+                     }
+                 });
+    }
+
+    /**
+     * Determines for each entry the buckets it belongs to. Buckets with only one entry are dropped, because they do not
+     * yield any pair.
+     */
+    private static List<List<int[]>> buildBuckets(BibEntry[] entries) {
+        Map<String, List<Integer>> exactBuckets = new HashMap<>();
+        Map<String, List<Integer>> nGramBuckets = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            int ordinal = i;
+            DuplicateBlockingKeys.getExactKeys(entries[i]).forEach(key -> exactBuckets.computeIfAbsent(key, k -> new ArrayList<>()).add(ordinal));
+            DuplicateBlockingKeys.getTitleNGramKeys(entries[i]).forEach(key -> nGramBuckets.computeIfAbsent(key, k -> new ArrayList<>()).add(ordinal));
+        }
+        nGramBuckets.values().removeIf(bucket -> bucket.size() > MAX_NGRAM_BUCKET_SIZE);
+
+        List<List<int[]>> bucketsOfEntries = new ArrayList<>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            bucketsOfEntries.add(new ArrayList<>());
+        }
+        addBuckets(exactBuckets.values(), bucketsOfEntries);
+        addBuckets(nGramBuckets.values(), bucketsOfEntries);
+        LOGGER.debug("Grouped {} entries into {} exact and {} title buckets", entries.length, exactBuckets.size(), nGramBuckets.size());
+        return bucketsOfEntries;
+    }
+
+    private static void addBuckets(Collection<List<Integer>> buckets, List<List<int[]>> bucketsOfEntries) {
+        for (List<Integer> bucket : buckets) {
+            if (bucket.size() < 2) {
+                continue;
+            }
+            // The ordinals are ascending, because the entries are added in order
+            int[] ordinals = bucket.stream().mapToInt(Integer::intValue).toArray();
+            for (int ordinal : ordinals) {
+                bucketsOfEntries.get(ordinal).add(ordinals);
+            }
+        }
+    }
+
+    /**
+     * Collects the distinct entries following the given entry in any of its buckets, in ascending order.
+     */
+    private static int[] getCandidates(int entry, List<int[]> buckets) {
+        if (buckets.isEmpty()) {
+            return new int[0];
+        }
+        IntStream.Builder candidates = IntStream.builder();
+        for (int[] bucket : buckets) {
+            int start = Arrays.binarySearch(bucket, entry) + 1;
+            for (int i = start; i < bucket.length; i++) {
+                candidates.add(bucket[i]);
+            }
+        }
+        return candidates.build().sorted().distinct().toArray();
+    }
+}
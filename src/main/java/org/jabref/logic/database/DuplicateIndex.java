@@ -0,0 +1,137 @@
+package org.jabref.logic.database;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index from the {@link DuplicateBlockingKeys blocking keys} of entries to the entries.
+ * <p>
+ * The index determines the entries which may be a duplicate of a given entry, so that these need to be checked using
+ * {@link DuplicateCheck#isDuplicate} only, instead of all entries. It is updated incrementally when entries are added,
+ * removed or changed.
+ */
+public class DuplicateIndex {
+
+    private static final Map<BibDatabase, DuplicateIndex> INDEXES = new MapMaker().weakKeys().makeMap();
+
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+    private final Map<String, Set<BibEntry>> exactBuckets = new HashMap<>();
+    private final Map<String, Set<BibEntry>> nGramBuckets = new HashMap<>();
+    private int nextOrdinal = 0;
+
+    public DuplicateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Returns the index of the given database. The index is created on first access and then kept up to date by the
+     * events of the database.
+     */
+    public static DuplicateIndex forDatabase(BibDatabase database) {
+        return INDEXES.computeIfAbsent(database, db -> {
+            DuplicateIndex index = new DuplicateIndex(db.getEntries());
+            db.registerListener(index);
+            return index;
+        });
+    }
+
+    public synchronized void add(BibEntry entry) {
+        if (indexedEntries.containsKey(entry)) {
+            return;
+        }
+        IndexedEntry indexedEntry = new IndexedEntry(nextOrdinal++, DuplicateBlockingKeys.getExactKeys(entry), DuplicateBlockingKeys.getTitleNGramKeys(entry));
+        indexedEntries.put(entry, indexedEntry);
+        addToBuckets(entry, indexedEntry);
+    }
+
+    public synchronized void remove(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.remove(entry);
+        if (indexedEntry != null) {
+            removeFromBuckets(entry, indexedEntry);
+        }
+    }
+
+    /**
+     * Determines the entries which may be a duplicate of the given entry, in the order they were added to the index.
+     * An entry part of the index is a candidate of itself.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String key : DuplicateBlockingKeys.getExactKeys(entry)) {
+            candidates.addAll(exactBuckets.getOrDefault(key, Set.of()));
+        }
+        for (String key : DuplicateBlockingKeys.getTitleNGramKeys(entry)) {
+            Set<BibEntry> bucket = nGramBuckets.getOrDefault(key, Set.of());
+            if (bucket.size() <= DuplicateFinder.MAX_NGRAM_BUCKET_SIZE) {
+                candidates.addAll(bucket);
+            }
+        }
+        return candidates.stream()
+                         .sorted(Comparator.comparingInt(candidate -> indexedEntries.get(candidate).ordinal))
+                         .toList();
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::add);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        if (indexedEntry == null) {
+            // Entry is not (longer) part of the database
+            return;
+        }
+        removeFromBuckets(entry, indexedEntry);
+        IndexedEntry updatedEntry = new IndexedEntry(indexedEntry.ordinal, DuplicateBlockingKeys.getExactKeys(entry), DuplicateBlockingKeys.getTitleNGramKeys(entry));
+        indexedEntries.put(entry, updatedEntry);
+        addToBuckets(entry, updatedEntry);
+    }
+
+    private void addToBuckets(BibEntry entry, IndexedEntry indexedEntry) {
+        indexedEntry.exactKeys.forEach(key -> exactBuckets.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry));
+        indexedEntry.nGramKeys.forEach(key -> nGramBuckets.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry));
+    }
+
+    private void removeFromBuckets(BibEntry entry, IndexedEntry indexedEntry) {
+        removeFromBuckets(exactBuckets, indexedEntry.exactKeys, entry);
+        removeFromBuckets(nGramBuckets, indexedEntry.nGramKeys, entry);
+    }
+
+    private static void removeFromBuckets(Map<String, Set<BibEntry>> buckets, Set<String> keys, BibEntry entry) {
+        for (String key : keys) {
+            Set<BibEntry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private record IndexedEntry(int ordinal, Set<String> exactKeys, Set<String> nGramKeys) {
+    }
+}
@@ -187,6 +187,12 @@ public class AtomicFileOutputStream extends FilterOutputStream {
     @Override
     public void close() throws IOException {
         try {
+            if (errorDuringWrite) {
+                // in case there was an error during write or the write was aborted, we do not replace the original file
+                super.close();
+                return;
+            }
+
             try {
                 // Make sure we have written everything to the temporary file
                 flush();
@@ -200,11 +206,6 @@ public class AtomicFileOutputStream extends FilterOutputStream {
             }
             super.close();
 
-            if (errorDuringWrite) {
-                // in case there was an error during write, we do not replace the original file
-                return;
-            }
-
             // We successfully wrote everything to the temporary file, lets copy it to the correct place
             // First, make backup of original file and try to save file permissions to restore them later (by default: 664)
             Set<PosixFilePermission> oldFilePermissions = EnumSet.of(PosixFilePermission.OWNER_READ,
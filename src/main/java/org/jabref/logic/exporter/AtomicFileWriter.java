@@ -18,6 +18,7 @@ import java.util.TreeSet;
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private final AtomicFileOutputStream outputStream;
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
@@ -26,7 +27,12 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        this(new AtomicFileOutputStream(file, keepBackup), encoding);
+    }
+
+    private AtomicFileWriter(AtomicFileOutputStream outputStream, Charset encoding) {
+        super(outputStream, encoding);
+        this.outputStream = outputStream;
         encoder = encoding.newEncoder();
     }
 
@@ -43,6 +49,18 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    /**
+     * Stops writing without replacing the target file, e.g., because the written content is incomplete. Closing the
+     * writer afterwards keeps the original file as well.
+     */
+    public void abort() throws IOException {
+        try {
+            flush();
+        } finally {
+            outputStream.abort();
+        }
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
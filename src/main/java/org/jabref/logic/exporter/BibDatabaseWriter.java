@@ -15,12 +15,12 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
-import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -63,6 +63,9 @@ public abstract class BibDatabaseWriter {
     protected final List<FieldChange> saveActionsFieldChanges = new ArrayList<>();
     protected final BibEntryTypesManager entryTypesManager;
 
+    // Map to collect entry type definitions that we must save along with entries using them.
+    private final SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+
     public BibDatabaseWriter(BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
                              CitationKeyPatternPreferences keyPatternPreferences,
@@ -135,11 +138,33 @@ public abstract class BibDatabaseWriter {
         Objects.requireNonNull(saveOrder);
 
         List<Comparator<BibEntry>> comparators = getSaveComparators(saveOrder);
-        FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
 
-        List<BibEntry> sorted = new ArrayList<>(entriesToSort);
+        // The field values are normalized once per entry (and kept for the next save) instead of once per comparison
+        List<FieldComparator> fieldComparators = new ArrayList<>();
+        Comparator<EntryWithSortKeys> comparatorStack = (entry1, entry2) -> 0;
+        for (Comparator<BibEntry> comparator : comparators) {
+            if (comparator instanceof FieldComparator fieldComparator) {
+                int index = fieldComparators.size();
+                fieldComparators.add(fieldComparator);
+                comparatorStack = comparatorStack.thenComparing((entry1, entry2) ->
+                        fieldComparator.compareSortKeys(entry1.sortKeys().get(index), entry2.sortKeys().get(index)));
+            } else {
+                comparatorStack = comparatorStack.thenComparing(EntryWithSortKeys::entry, comparator);
+            }
+        }
+
+        List<EntryWithSortKeys> sorted = new ArrayList<>(entriesToSort.size());
+        for (BibEntry entry : entriesToSort) {
+            List<FieldComparator.SortKey> sortKeys = fieldComparators.isEmpty()
+                    ? List.of()
+                    : EntrySaveCache.getSortKeys(entry, saveOrder, () -> fieldComparators.stream().map(comparator -> comparator.getSortKey(entry)).toList());
+            sorted.add(new EntryWithSortKeys(entry, sortKeys));
+        }
         sorted.sort(comparatorStack);
-        return sorted;
+        return sorted.stream().map(EntryWithSortKeys::entry).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private record EntryWithSortKeys(BibEntry entry, List<FieldComparator.SortKey> sortKeys) {
     }
 
     public List<FieldChange> getSaveActionsFieldChanges() {
@@ -163,6 +188,24 @@ public abstract class BibDatabaseWriter {
      * @param entries A list of entries to save. The list itself is not modified in this code
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        saveBeginning(bibDatabaseContext);
+
+        // Write database entries.
+        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+        saveActionsFieldChanges.addAll(writeEntries(bibDatabaseContext, sortedEntries));
+
+        saveEnd(bibDatabaseContext);
+    }
+
+    /**
+     * Saves everything in front of the entries, e.g., the strings of the database.
+     * <p>
+     * Together with {@link #saveEntries(BibDatabaseContext, List)} and {@link #saveEnd(BibDatabaseContext)}, the entries
+     * can be saved batch by batch while they are imported, so that a huge library need not be kept in memory.
+     */
+    public void saveBeginning(BibDatabaseContext bibDatabaseContext) throws IOException {
+        typesToWrite.clear();
+
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         sharedDatabaseIDOptional.ifPresent(Unchecked.consumer(id -> writeDatabaseID(id)));
 
@@ -179,20 +222,39 @@ public abstract class BibDatabaseWriter {
 
         // Write strings if there are any.
         writeStrings(bibDatabaseContext.getDatabase());
+    }
 
-        // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
-        saveActionsFieldChanges.addAll(saveActionChanges);
-        if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
-            saveActionsFieldChanges.addAll(keyChanges);
+    /**
+     * Saves the given entries after the ones saved before. In contrast to saving the whole database, the entries are
+     * not sorted and the changes made by the save actions are not recorded, so that the entries can be dropped afterwards.
+     */
+    public void saveEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        writeEntries(bibDatabaseContext, entries);
+    }
+
+    /**
+     * Saves everything after the entries, e.g., the metadata of the database.
+     */
+    public void saveEnd(BibDatabaseContext bibDatabaseContext) throws IOException {
+        if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
+            // Write meta data.
+            writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPattern());
+
+            // Write type definitions, if any:
+            writeEntryTypeDefinitions(typesToWrite);
         }
 
-        // Map to collect entry type definitions that we must save along with entries using them.
-        SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+        // finally write whatever remains of the file, but at least a concluding newline
+        writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
+    }
+
+    private List<FieldChange> writeEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        List<FieldChange> changes = new ArrayList<>(applySaveActions(entries, bibDatabaseContext.getMetaData()));
+        if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
+            changes.addAll(generateCitationKeys(bibDatabaseContext, entries));
+        }
 
-        for (BibEntry entry : sortedEntries) {
+        for (BibEntry entry : entries) {
             // Check if we must write the type definition for this
             // entry, as well. Our criterion is that all non-standard
             // types (*not* all customized standard types) must be written.
@@ -204,17 +266,7 @@ public abstract class BibDatabaseWriter {
 
             writeEntry(entry, bibDatabaseContext.getMode());
         }
-
-        if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
-            // Write meta data.
-            writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPattern());
-
-            // Write type definitions, if any:
-            writeEntryTypeDefinitions(typesToWrite);
-        }
-
-        // finally write whatever remains of the file, but at least a concluding newline
-        writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
+        return changes;
     }
 
     protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
@@ -315,15 +367,10 @@ public abstract class BibDatabaseWriter {
      * Generate keys for all entries that are lacking keys.
      */
     protected List<FieldChange> generateCitationKeys(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        List<FieldChange> changes = new ArrayList<>();
         CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, keyPatternPreferences);
-        for (BibEntry bes : entries) {
-            Optional<String> oldKey = bes.getCitationKey();
-            if (StringUtil.isBlank(oldKey)) {
-                Optional<FieldChange> change = keyGenerator.generateAndSetKey(bes);
-                change.ifPresent(changes::add);
-            }
-        }
-        return changes;
+        List<BibEntry> entriesWithoutKey = entries.stream()
+                                                  .filter(entry -> StringUtil.isBlank(entry.getCitationKey()))
+                                                  .toList();
+        return keyGenerator.generateAndSetKeys(entriesWithoutKey);
     }
 }
@@ -25,6 +25,10 @@ public class BibWriter {
         this.newLineSeparator = newLineSeparator;
     }
 
+    String getNewLineSeparator() {
+        return newLineSeparator;
+    }
+
     /**
      * Writes the given string. The newlines of the given string are converted to the newline set for this class.
      */
@@ -1,10 +1,13 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -34,6 +37,7 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String STRING_PREFIX = "@String";
 
     private final FieldPreferences fieldPreferences;
+    private String fieldPreferencesState;
 
     public BibtexDatabaseWriter(BibWriter bibWriter,
                                 SelfContainedSaveConfiguration saveConfiguration,
@@ -156,6 +160,28 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        if (!saveConfiguration.shouldReformatFile() && !entry.hasChanged()) {
+            // Written as it was parsed
+            bibtexEntryWriter.write(entry, bibWriter, mode, false);
+            return;
+        }
+
+        // Formatting is expensive, thus the serialization is reused until the entry changes again
+        if (fieldPreferencesState == null) {
+            fieldPreferencesState = List.of(fieldPreferences.shouldResolveStrings(),
+                    String.valueOf(fieldPreferences.getResolvableFields()),
+                    String.valueOf(fieldPreferences.getNonWrappableFields())).toString();
+        }
+        List<Object> configuration = List.of(mode, bibWriter.getNewLineSeparator(), fieldPreferencesState, entryTypesManager.enrich(entry.getType(), mode));
+        Optional<String> serialization = EntrySaveCache.getSerialization(entry, configuration);
+        if (serialization.isEmpty()) {
+            EntrySaveCache.EntryContent content = EntrySaveCache.EntryContent.of(entry);
+            StringWriter writer = new StringWriter();
+            bibtexEntryWriter.write(entry, new BibWriter(writer, bibWriter.getNewLineSeparator()), mode, true);
+            serialization = Optional.of(writer.toString());
+            EntrySaveCache.putSerialization(entry, content, configuration, serialization.get());
+        }
+        bibWriter.write(serialization.get());
+        bibWriter.finishBlock();
     }
 }
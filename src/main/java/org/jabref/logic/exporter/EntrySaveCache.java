@@ -0,0 +1,88 @@
+package org.jabref.logic.exporter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.metadata.SaveOrder;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Caches what saving computes for an entry: the serialization of a changed entry and the keys the entry is sorted by.
+ * Thus, saving again after a few edits only formats and normalizes the edited entries.
+ * <p>
+ * Each cached value stores the type, comments and fields of the entry it was computed for and is only reused if they
+ * are still the same. The values are taken before computing, so that an entry changed meanwhile is computed again.
+ */
+class EntrySaveCache {
+
+    // Weak keys are compared by identity, which is required as entries are equal if their content is
+    private static final Map<BibEntry, CachedEntry> CACHE = new MapMaker().weakKeys().makeMap();
+
+    private EntrySaveCache() {
+    }
+
+    /**
+     * @param configuration everything the serialization depends on besides the entry
+     */
+    static Optional<String> getSerialization(BibEntry entry, List<Object> configuration) {
+        CachedEntry cachedEntry = CACHE.get(entry);
+        if ((cachedEntry == null) || (cachedEntry.serialization() == null)
+                || !configuration.equals(cachedEntry.serializationConfiguration()) || !cachedEntry.content().isContentOf(entry)) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedEntry.serialization());
+    }
+
+    static void putSerialization(BibEntry entry, EntryContent content, List<Object> configuration, String serialization) {
+        CACHE.compute(entry, (key, cachedEntry) -> (cachedEntry != null) && cachedEntry.content().equals(content)
+                ? new CachedEntry(content, configuration, serialization, cachedEntry.saveOrder(), cachedEntry.sortKeys())
+                : new CachedEntry(content, configuration, serialization, null, null));
+    }
+
+    /**
+     * Returns the cached sort keys of the entry, or computes them if there are none for the given save order.
+     */
+    static List<FieldComparator.SortKey> getSortKeys(BibEntry entry, SaveOrder saveOrder, Supplier<List<FieldComparator.SortKey>> sortKeys) {
+        CachedEntry cachedEntry = CACHE.get(entry);
+        if ((cachedEntry != null) && (cachedEntry.sortKeys() != null)
+                && saveOrder.equals(cachedEntry.saveOrder()) && cachedEntry.content().isContentOf(entry)) {
+            return cachedEntry.sortKeys();
+        }
+
+        EntryContent content = EntryContent.of(entry);
+        List<FieldComparator.SortKey> computedSortKeys = sortKeys.get();
+        CACHE.compute(entry, (key, currentEntry) -> (currentEntry != null) && currentEntry.content().equals(content)
+                ? new CachedEntry(content, currentEntry.serializationConfiguration(), currentEntry.serialization(), saveOrder, computedSortKeys)
+                : new CachedEntry(content, null, null, saveOrder, computedSortKeys));
+        return computedSortKeys;
+    }
+
+    /**
+     * Everything of an entry a cached value depends on
+     */
+    record EntryContent(EntryType type, String userComments, Map<Field, String> fields) {
+
+        static EntryContent of(BibEntry entry) {
+            return new EntryContent(entry.getType(), entry.getUserComments(), Map.copyOf(entry.getFieldMap()));
+        }
+
+        boolean isContentOf(BibEntry entry) {
+            return type.equals(entry.getType()) && Objects.equals(userComments, entry.getUserComments()) && fields.equals(entry.getFieldMap());
+        }
+    }
+
+    private record CachedEntry(EntryContent content,
+                               List<Object> serializationConfiguration,
+                               String serialization,
+                               SaveOrder saveOrder,
+                               List<FieldComparator.SortKey> sortKeys) {
+    }
+}
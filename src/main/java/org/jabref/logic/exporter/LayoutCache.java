@@ -0,0 +1,88 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.preferences.DOIPreferences;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the compiled layouts of the template exporters, so that exporting again does not read and parse the layout
+ * files again.
+ * <p>
+ * A layout is only reused if its file was not modified since it was compiled. As a compiled layout keeps the
+ * formatters it was compiled with, it is also only reused for equal preferences, custom name formatters and file
+ * directories, and for the same abbreviations.
+ */
+class LayoutCache {
+
+    // cache size in layouts
+    private static final int CACHE_SIZE = 100;
+
+    private static final Cache<LayoutKey, Layout> CACHE = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private LayoutCache() {
+    }
+
+    /**
+     * Returns the compiled layout of the given layout file, compiling it if it was not compiled before or changed since.
+     *
+     * @throws IOException if the layout file cannot be read
+     */
+    static Layout getLayout(Path layoutFile,
+                            List<Path> fileDirForDatabase,
+                            LayoutFormatterPreferences layoutPreferences,
+                            JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(layoutFile);
+        NameFormatterPreferences nameFormatterPreferences = layoutPreferences.getNameFormatterPreferences();
+        DOIPreferences doiPreferences = layoutPreferences.getDoiPreferences();
+        LayoutKey key = new LayoutKey(
+                layoutFile,
+                lastModified,
+                List.copyOf(fileDirForDatabase),
+                nameFormatterPreferences.getNameFormatterKey().stream().toList(),
+                nameFormatterPreferences.getNameFormatterValue().stream().toList(),
+                layoutPreferences.getCustomExportNameFormatters(),
+                doiPreferences.isUseCustom(),
+                doiPreferences.getDefaultBaseURI(),
+                layoutPreferences.getMainFileDirectory(),
+                abbreviationRepository);
+        Layout layout = CACHE.getIfPresent(key);
+        if (layout == null) {
+            try (Reader reader = Files.newBufferedReader(layoutFile, StandardCharsets.UTF_8)) {
+                layout = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText();
+            }
+            CACHE.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Everything a compiled layout depends on. The preferences are compared by their values, as a new preferences
+     * object is created for each export. The abbreviations are compared by identity.
+     */
+    private record LayoutKey(Path layoutFile,
+                             FileTime lastModified,
+                             List<Path> fileDirForDatabase,
+                             List<String> nameFormatterKeys,
+                             List<String> nameFormatterValues,
+                             Map<String, String> customExportNameFormatters,
+                             boolean useCustomDoiBaseUri,
+                             String doiBaseUri,
+                             String mainFileDirectory,
+                             JournalAbbreviationRepository abbreviationRepository) {
+    }
+}
@@ -1,6 +1,5 @@
 package org.jabref.logic.exporter;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.URISyntaxException;
@@ -15,16 +14,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
-import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
@@ -39,7 +39,7 @@ import org.slf4j.LoggerFactory;
  */
 public class TemplateExporter extends Exporter {
 
-    private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
+    private static final int LAYOUT_BATCH_SIZE = 1000;
     private static final String LAYOUT_PREFIX = "/resource/layout/";
     private static final String LAYOUT_EXTENSION = ".layout";
     private static final String FORMATTERS_EXTENSION = ".formatters";
@@ -48,6 +48,8 @@ public class TemplateExporter extends Exporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    private static JournalAbbreviationRepository builtInAbbreviationRepository;
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -155,15 +157,13 @@ public class TemplateExporter extends Exporter {
     }
 
     /**
-     * This method should return a reader from which the given layout file can be read.
-     * <p>
-     * Subclasses of TemplateExporter are free to override and provide their own implementation.
+     * This method should return the path from which the given layout file can be read.
      *
      * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created
+     * @return the path of the layout file, which may not exist
+     * @throws IOException if the path could not be determined
      */
-    private Reader getReader(String filename) throws IOException {
+    private Path getLayoutPath(String filename) throws IOException {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -171,29 +171,45 @@ public class TemplateExporter extends Exporter {
         } else {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
-        // Attempt to get a Reader for the file path given, either by
-        // loading it as a resource (from within JAR), or as a normal file. If
-        // unsuccessful (e.g. file not found), an IOException is thrown.
+        // Attempt to get the path of the file, either by loading it as a
+        // resource (from within JAR), or as a normal file.
         String name = dir + filename;
         // Try loading as a resource first. This works for files inside the JAR:
         // If that did not work, try loading as a normal file URL:
         try {
             URL res = TemplateExporter.class.getResource(name);
-            Path reso;
             if (res == null) {
-                reso = Path.of(name);
-            } else {
-                reso = Path.of(res.toURI());
+                return Path.of(name);
             }
-            return Files.newBufferedReader(reso, StandardCharsets.UTF_8);
-        } catch (FileNotFoundException | URISyntaxException ex) {
+            return Path.of(res.toURI());
+        } catch (URISyntaxException ex) {
             throw new IOException("Cannot find layout file: '" + name + "'.");
         }
     }
 
+    /**
+     * Returns the compiled layout of the given layout file. Layouts are shared between exports, see {@link LayoutCache}.
+     *
+     * @throws IOException if the layout file does not exist or cannot be read
+     */
+    private Layout getLayout(String filename, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        return LayoutCache.getLayout(getLayoutPath(filename), fileDirForDatabase, layoutPreferences, abbreviationRepository);
+    }
+
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws Exception {
-        export(databaseContext, file, entries, Collections.emptyList(), JournalAbbreviationLoader.loadBuiltInRepository());
+        export(databaseContext, file, entries, Collections.emptyList(), getBuiltInAbbreviationRepository());
+    }
+
+    /**
+     * Returns the built-in abbreviations. They are loaded once, so that the compiled layouts of exports without given
+     * abbreviations can be reused, see {@link LayoutCache}.
+     */
+    private static synchronized JournalAbbreviationRepository getBuiltInAbbreviationRepository() {
+        if (builtInAbbreviationRepository == null) {
+            builtInAbbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        }
+        return builtInAbbreviationRepository;
     }
 
     @Override
@@ -221,9 +237,8 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -241,12 +256,7 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
                 if (!missingFormatters.isEmpty()) {
@@ -254,52 +264,49 @@ public class TemplateExporter extends Exporter {
                 }
             }
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
                 // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                if (!layouts.containsKey(type)) {
+                    Layout layout;
+                    try {
                         // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
+                        layout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     } catch (IOException ex) {
                         // The exception indicates that no type-specific layout
                         // exists, so we
                         // go with the default one.
                         layout = defLayout;
                     }
+                    layouts.put(type, layout);
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+            // Group headers depend on the previous entry, otherwise the entries are laid out in parallel
+            boolean printsGroups = layouts.values().stream().anyMatch(layout -> (layout != null) && layout.hasGroups());
+            for (int start = 0; start < sorted.size(); start += LAYOUT_BATCH_SIZE) {
+                List<BibEntry> batch = sorted.subList(start, Math.min(start + LAYOUT_BATCH_SIZE, sorted.size()));
+                int firstNumber = start + 1;
+                IntStream positions = IntStream.range(0, batch.size());
+                if (!printsGroups) {
+                    positions = positions.parallel();
+                }
+                List<String> texts = positions.mapToObj(position -> {
+                    BibEntry entry = batch.get(position);
+                    return doLayout(layouts.get(entry.getType()), entry, firstNumber + position, databaseContext.getDatabase());
+                }).toList();
+
+                // Write the entries
+                for (String text : texts) {
+                    ps.write(text);
                 }
             }
 
             // Print footer
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
@@ -319,6 +326,39 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Returns the text of the given entry, which has the given sequence number.
+     */
+    private String doLayout(Layout layout, BibEntry entry, int number, BibDatabase database) {
+        if (layout == null) {
+            return "";
+        }
+        String text = Number.withSerialExportNumber(number, () -> layout.doLayout(entry, database));
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return text;
+        }
+
+        // Drop the blank lines, lines end with "\r\n" or "\n"
+        StringBuilder result = new StringBuilder(text.length());
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            int nextLineStart = lineEnd + 1;
+            if ((lineEnd > lineStart) && (text.charAt(lineEnd - 1) == '\r') && (lineEnd < text.length())) {
+                lineEnd--;
+            }
+            String line = text.substring(lineStart, lineEnd);
+            if (!line.isBlank()) {
+                result.append(line).append(OS.NEWLINE);
+            }
+            lineStart = nextLineStart;
+        }
+        return result.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -1,6 +1,12 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +14,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
@@ -33,6 +40,7 @@ import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.importer.fileformat.SilverPlatterImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -123,6 +131,27 @@ public class ImportFormatReader {
         }
     }
 
+    /**
+     * Imports the given file like {@link #importFromFile(String, Path)}, but passes each entry to the given consumer as
+     * soon as it is read instead of collecting the entries.
+     *
+     * @return the result of the import without the entries
+     * @see Importer#importEntries(Path, Consumer)
+     */
+    public ParserResult importFromFile(String format, Path file, Consumer<BibEntry> entryConsumer) throws ImportException {
+        Optional<Importer> importer = getByCliId(format);
+
+        if (importer.isEmpty()) {
+            throw new ImportException(Localization.lang("Unknown import format") + ": " + format);
+        }
+
+        try {
+            return importer.get().importEntries(file, entryConsumer);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
     /**
      * All importers.
      *
@@ -142,7 +171,8 @@ public class ImportFormatReader {
      * Tries to import a file by iterating through the available import filters,
      * and keeping the import that seems most promising.
      * <p/>
-     * This method first attempts to read this file as bibtex.
+     * The file is read once, and its text is shared by all importers reading files as text.
+     * If no importer succeeds, the file is read as bibtex.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -150,7 +180,10 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            FileText fileText = FileText.read(filePath);
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(
+                    importer -> importer.readsFilesAsText() ? importer.importDatabase(toReader(fileText.text())) : importer.importDatabase(filePath),
+                    importer -> importer.readsFilesAsText() ? importer.isRecognizedFormat(toReader(fileText.textForRecognition())) : importer.isRecognizedFormat(filePath));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -170,9 +203,41 @@ public class ImportFormatReader {
         }
     }
 
+    /**
+     * The text of a file as read by {@link Importer#importDatabase(Path)} and {@link Importer#isRecognizedFormat(Path)}
+     */
+    private record FileText(String text, String textForRecognition) {
+
+        static FileText read(Path filePath) throws ImportException {
+            try {
+                byte[] content = Files.readAllBytes(filePath);
+                String text = new String(content, StandardCharsets.UTF_8);
+                if (!FileUtil.isBibFile(filePath)) {
+                    return new FileText(text, text);
+                }
+                // The encoding of bib files is detected for recognizing their format, see Importer#getReader
+                StringWriter textForRecognition = new StringWriter();
+                try (BufferedReader reader = Importer.getReader(new ByteArrayInputStream(content))) {
+                    reader.transferTo(textForRecognition);
+                }
+                return new FileText(text, textForRecognition.toString());
+            } catch (IOException e) {
+                // No importer can read the file then
+                throw new ImportException(e);
+            }
+        }
+    }
+
+    private static BufferedReader toReader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
      * and keeping the import that seems the most promising
+     * <p>
+     * The importers are independent of each other, thus they recognize the format and import the entries in parallel.
+     * If several importers find the most entries, the first one is kept.
      *
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
@@ -180,31 +245,22 @@ public class ImportFormatReader {
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
     private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<Optional<List<BibEntry>>> results = formats.parallelStream()
+                                                        .map(importer -> tryImport(importer, importDatabase, isRecognizedFormat))
+                                                        .toList();
+
         // stores ref to best result, gets updated at the next loop
         List<BibEntry> bestResult = null;
         int bestResultCount = 0;
         String bestFormatName = null;
 
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
-            try {
-                if (!isRecognizedFormat.apply(imFo)) {
-                    continue;
-                }
-
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
-
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
-
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
-                }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+        // Cycle through the results in the order of the importers
+        for (int i = 0; i < formats.size(); i++) {
+            Optional<List<BibEntry>> entries = results.get(i);
+            if (entries.isPresent() && (entries.get().size() > bestResultCount)) {
+                bestResult = entries.get();
+                bestResultCount = entries.get().size();
+                bestFormatName = formats.get(i).getName();
             }
         }
 
@@ -217,6 +273,25 @@ public class ImportFormatReader {
         throw new ImportException(Localization.lang("Could not find a suitable import format."));
     }
 
+    /**
+     * @return the non-empty entries imported by the given importer, or an empty optional if the importer does not
+     * recognize the format or fails
+     */
+    private static Optional<List<BibEntry>> tryImport(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        try {
+            if (!isRecognizedFormat.apply(importer)) {
+                return Optional.empty();
+            }
+
+            List<BibEntry> entries = importDatabase.apply(importer).getDatabase().getEntries();
+            BibDatabases.purgeEmptyEntries(entries);
+            return Optional.of(entries);
+        } catch (IOException ex) {
+            // The import did not succeed. Go on.
+            return Optional.empty();
+        }
+    }
+
     @FunctionalInterface
     public interface CheckedFunction<T, R> {
 
@@ -11,12 +11,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
 
 import com.ibm.icu.text.CharsetDetector;
 import com.ibm.icu.text.CharsetMatch;
@@ -107,6 +111,57 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Parse the entries in the source and pass each one to the given consumer as soon as it is read.
+     * <p>
+     * In contrast to {@link #importDatabase(BufferedReader)}, the entries are not collected. Thus, huge sources can be
+     * converted without keeping all entries in memory. Importers reading their source element by element override this
+     * method, the default implementation imports the whole database and passes its entries afterwards.
+     *
+     * @param input         the input to read from
+     * @param entryConsumer receives the entries in the order of the source
+     * @return the result of the import without the entries, e.g., containing the warnings
+     */
+    public ParserResult importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        return passEntries(importDatabase(input), entryConsumer);
+    }
+
+    /**
+     * Parse the entries in the specified file and pass each one to the given consumer as soon as it is read.
+     *
+     * @see #importEntries(BufferedReader, Consumer)
+     */
+    public ParserResult importEntries(Path filePath, Consumer<BibEntry> entryConsumer) throws IOException {
+        if (!readsFilesAsText()) {
+            return passEntries(importDatabase(filePath), entryConsumer);
+        }
+
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(Files.newInputStream(filePath, StandardOpenOption.READ), StandardCharsets.UTF_8))) {
+            ParserResult parserResult = importEntries(bufferedReader, entryConsumer);
+            parserResult.getMetaData().setEncoding(StandardCharsets.UTF_8);
+            parserResult.setPath(filePath);
+            return parserResult;
+        }
+    }
+
+    private static ParserResult passEntries(ParserResult parserResult, Consumer<BibEntry> entryConsumer) {
+        List<BibEntry> entries = new ArrayList<>(parserResult.getDatabase().getEntries());
+        parserResult.getDatabase().removeEntries(entries);
+        entries.forEach(entryConsumer);
+        return parserResult;
+    }
+
+    /**
+     * Check whether this importer reads files as UTF-8 text, i.e., {@link #isRecognizedFormat(Path)} and
+     * {@link #importDatabase(Path)} only pass the text of the file to the methods taking a reader. Then, a file of
+     * unknown format is read once and its text is shared by all importers.
+     * <p>
+     * Importers reading files differently, e.g., binary files, override the methods taking a path and return false.
+     */
+    public boolean readsFilesAsText() {
+        return true;
+    }
+
     protected static Charset getCharset(BufferedInputStream bufferedInputStream) {
         Charset defaultCharSet = StandardCharsets.UTF_8;
 
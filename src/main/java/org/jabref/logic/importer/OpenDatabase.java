@@ -30,6 +30,20 @@ public class OpenDatabase {
         return result;
     }
 
+    /**
+     * Load database (bib-file) and keep a binary snapshot of the parsed library in the given backup directory to speed
+     * up loading the unchanged file next time
+     *
+     * @param fileToOpen Name of the BIB-file to open
+     * @return ParserResult which never is null
+     */
+    public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, Path backupDir)
+            throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabaseUsingSnapshot(fileToOpen, backupDir);
+        performLoadDatabaseMigrations(result, importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
+        return result;
+    }
+
     private static void performLoadDatabaseMigrations(ParserResult parserResult,
                                                       Character keywordDelimited) {
         List<PostOpenMigration> postOpenMigrations = Arrays.asList(
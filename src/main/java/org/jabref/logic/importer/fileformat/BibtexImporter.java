@@ -2,6 +2,7 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -34,6 +35,9 @@ public class BibtexImporter extends Importer {
     // Signature written at the top of the .bib file in earlier versions.
     private static final String SIGNATURE = "This file was created with JabRef";
 
+    // Files of this size (in bytes) and larger are parsed in parallel
+    private static final long PARALLEL_PARSING_MIN_FILE_SIZE = 1024 * 1024;
+
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
 
@@ -52,29 +56,74 @@ public class BibtexImporter extends Importer {
         return true;
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // The encoding is determined from the file itself
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
         EncodingResult result = getEncodingResult(filePath);
+        ParserResult parserResult = parse(Files.newInputStream(filePath), Files.size(filePath), result.encoding(),
+                new BibtexParser(importFormatPreferences, fileMonitor));
+        return completeParserResult(parserResult, filePath, result);
+    }
+
+    /**
+     * Imports the given file the same way as {@link #importDatabase(Path)}. In addition, a binary snapshot of the parsed
+     * library is kept in the given backup directory. As long as the content of the file does not change, the library
+     * is read from the snapshot instead of parsing the file again.
+     */
+    public ParserResult importDatabaseUsingSnapshot(Path filePath, Path backupDir) throws IOException {
+        Optional<Path> snapshotFile = LibrarySnapshot.getSnapshotFile(filePath, backupDir);
+        if (snapshotFile.isEmpty()) {
+            return importDatabase(filePath);
+        }
 
+        EncodingResult result = getEncodingResult(filePath);
+        // The snapshot is keyed by the content which is parsed, thus the file is read only once
+        byte[] content = Files.readAllBytes(filePath);
+        LibrarySnapshot snapshot = new LibrarySnapshot(snapshotFile.get(), content, importFormatPreferences);
+        Optional<ParserResult> parserResult = snapshot.read(importFormatPreferences, fileMonitor);
+        if (parserResult.isEmpty()) {
+            BibtexParser parser = new BibtexParser(importFormatPreferences, fileMonitor);
+            parserResult = Optional.of(parse(new ByteArrayInputStream(content), content.length, result.encoding(), parser));
+            // Libraries with warnings are parsed again, so that the warnings are shown again
+            if (!parserResult.get().hasWarnings()) {
+                snapshot.write(parserResult.get(), parser.getMetaDataComments());
+            }
+        }
+        return completeParserResult(parserResult.get(), filePath, result);
+    }
+
+    private ParserResult parse(InputStream content, long size, Charset encoding, BibtexParser parser) throws IOException {
         // We replace unreadable characters
         // Unfortunately, no warning will be issued to the user
         // As this is a very seldom case, we accept that
-        CharsetDecoder decoder = result.encoding().newDecoder();
+        CharsetDecoder decoder = encoding.newDecoder();
         decoder.onMalformedInput(CodingErrorAction.REPLACE);
 
-        try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
+        try (InputStreamReader inputStreamReader = new InputStreamReader(content, decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
-            parserResult.getMetaData().setEncoding(result.encoding());
-            parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
-            parserResult.setPath(filePath);
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+            if (size >= PARALLEL_PARSING_MIN_FILE_SIZE) {
+                return parser.parseInParallel(reader);
+            } else {
+                return parser.parse(reader);
             }
-            return parserResult;
         }
     }
 
+    private ParserResult completeParserResult(ParserResult parserResult, Path filePath, EncodingResult result) {
+        parserResult.getMetaData().setEncoding(result.encoding());
+        parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
+        parserResult.setPath(filePath);
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+        }
+        return parserResult;
+    }
+
     public static Charset getEncoding(Path filePath) throws IOException {
         return getEncodingResult(filePath).encoding();
     }
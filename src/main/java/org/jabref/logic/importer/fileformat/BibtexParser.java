@@ -2,14 +2,15 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -70,12 +71,27 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 1024;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_PART_SIZE = 64 * 1024;
+    private static final int PARTS_PER_PROCESSOR = 4;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    /**
+     * Holds the text read from the file since the last call of {@link #getPureTextFromFile()} (starting at
+     * {@link #pureTextStart}) and the characters read ahead from the reader (starting at {@link #position}). Unreading
+     * a character just moves the position back.
+     */
+    private char[] buffer;
+    private int pureTextStart;
+    private int position;
+    private int limit;
+    private boolean endOfReader;
+    private Reader reader;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
+    private Map<String, String> meta;
+    private List<BibEntry> entries;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
@@ -131,8 +147,49 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        startParsing(in);
+        return parseFileContent();
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader. Large contents are split at the entries and the parts are parsed
+     * in parallel.
+     * <p>
+     * The result is the same as the one of {@link #parse(Reader)}. If the parts cannot be combined to exactly that
+     * result, e.g., because of warnings or comments in between, the content is parsed sequentially.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        StringWriter contentWriter = new StringWriter();
+        in.transferTo(contentWriter);
+        String content = contentWriter.toString();
+
+        List<String> parts = splitAtEntries(content);
+        if (parts.size() > 1) {
+            Optional<ParserResult> result = parseParts(parts);
+            if (result.isPresent()) {
+                return result.get();
+            }
+            LOGGER.debug("Could not combine the parts parsed in parallel, parsing sequentially");
+        }
+        return parse(new StringReader(content));
+    }
+
+    /**
+     * Returns the metadata comments found by the last parse, before they were parsed into {@link MetaData}
+     */
+    Map<String, String> getMetaDataComments() {
+        return meta;
+    }
+
+    private void startParsing(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        reader = in;
+        buffer = new char[INITIAL_BUFFER_SIZE];
+        pureTextStart = 0;
+        position = 0;
+        limit = 0;
+        endOfReader = false;
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -142,29 +199,141 @@ public class BibtexParser implements Parser {
         parseDatabaseID();
 
         skipWhitespace();
+    }
 
-        return parseFileContent();
+    /**
+     * Splits the content in front of entries starting a line at the top level. Only positions where the parser would
+     * drop the whitespace in between anyway are considered, i.e., after an entry followed by at most one empty line.
+     */
+    static List<String> splitAtEntries(String content) {
+        int partSize = Math.max(MIN_PART_SIZE, content.length() / (PARTS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()));
+        List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        int brackets = 0;
+        boolean lastClosedWasComment = false;
+        int typeStart = -1;
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            boolean escaped = (i > 0) && isEscapeSymbol(content.charAt(i - 1));
+            if ((character == '{') && !escaped) {
+                if (brackets == 0) {
+                    lastClosedWasComment = (typeStart >= 0) && "comment".equalsIgnoreCase(content.substring(typeStart, i).trim());
+                }
+                brackets++;
+            } else if ((character == '}') && !escaped) {
+                brackets--;
+            } else if ((character == '@') && (brackets == 0)) {
+                typeStart = i + 1;
+                if ((i - partStart >= partSize) && !lastClosedWasComment && isAfterEntry(content, i)) {
+                    parts.add(content.substring(partStart, i));
+                    partStart = i;
+                }
+            }
+        }
+        parts.add(content.substring(partStart));
+        return parts;
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+    /**
+     * Checks whether the text in front of the given position is the closing bracket of an entry followed by a newline
+     * and at most one empty line.
+     */
+    private static boolean isAfterEntry(String content, int position) {
+        int index = skipNewlineBackwards(content, position);
+        if (index == position) {
+            return false;
+        }
+        int afterEmptyLine = skipNewlineBackwards(content, index);
+        if (afterEmptyLine != index) {
+            index = afterEmptyLine;
+        }
+        while ((index > 0) && (content.charAt(index - 1) == ' ')) {
+            index--;
+        }
+        return (index > 0) && ((content.charAt(index - 1) == '}') || (content.charAt(index - 1) == ')'));
+    }
+
+    private static int skipNewlineBackwards(String content, int position) {
+        if ((position > 0) && (content.charAt(position - 1) == '\n')) {
+            position--;
+            if ((position > 0) && (content.charAt(position - 1) == '\r')) {
+                position--;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Parses the parts in parallel and combines them in their original order
+     *
+     * @return empty if the parts could not be combined to the result of a sequential parse
+     */
+    private Optional<ParserResult> parseParts(List<String> parts) throws IOException {
+        List<BibtexParser> partParsers;
+        try {
+            partParsers = parts.parallelStream().map(part -> {
+                BibtexParser partParser = new BibtexParser(importFormatPreferences);
+                try {
+                    partParser.startParsing(new StringReader(part));
+                    partParser.parseEntriesAndComments();
+                    partParser.parseRemainingContent();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return partParser;
+            }).toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        BibtexParser firstParser = partParsers.getFirst();
+        database = firstParser.database;
+        entryTypes = firstParser.entryTypes;
+        parserResult = firstParser.parserResult;
+        meta = firstParser.meta;
+        entries = firstParser.entries;
+        if (parserResult.hasWarnings()) {
+            return Optional.empty();
+        }
+        for (BibtexParser partParser : partParsers.subList(1, partParsers.size())) {
+            // Text between the parts would have become part of the next entry
+            if (!database.getEpilog().isEmpty() || partParser.parserResult.hasWarnings()) {
+                return Optional.empty();
+            }
+            entries.addAll(partParser.entries);
+            for (BibtexString string : partParser.database.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException ex) {
+                    return Optional.empty();
+                }
+            }
+            partParser.database.getPreamble().ifPresent(database::setPreamble);
+            meta.putAll(partParser.meta);
+            entryTypes.addAll(partParser.entryTypes);
+            database.setEpilog(partParser.database.getEpilog());
         }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        database.insertEntries(entries);
+        parseMetaData();
+        checkEpilog();
+        return Optional.of(parserResult);
+    }
 
+    private String determineNewLineSeparator() throws IOException {
+        String newLineSeparator = OS.NEWLINE;
+        // sneak at the characters without consuming them
+        for (int i = 0; i < BibtexParser.LOOKAHEAD; i++) {
+            if ((position + i == limit) && !fillBuffer()) {
+                break;
+            }
+            char currentChar = buffer[position + i];
+            if (currentChar == '\r') {
+                return "\r\n";
+            } else if (currentChar == '\n') {
+                return "\n";
+            }
+        }
         return newLineSeparator;
     }
 
@@ -173,6 +342,8 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        meta = new HashMap<>();
+        entries = new ArrayList<>();
     }
 
     private void parseDatabaseID() throws IOException {
@@ -196,8 +367,20 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
+        parseEntriesAndComments();
+
+        database.insertEntries(entries);
+
+        parseMetaData();
+
+        parseRemainingContent();
+
+        checkEpilog();
+
+        return parserResult;
+    }
 
+    private void parseEntriesAndComments() throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -218,7 +401,7 @@ public class BibtexParser implements Parser {
             } else if ("string".equals(entryType)) {
                 parseBibtexString();
             } else if ("comment".equals(entryType)) {
-                parseJabRefComment(meta);
+                parseJabRefComment();
             } else {
                 // Not a comment, preamble, or string. Thus, it is an entry
                 parseAndAddEntry(entryType);
@@ -226,7 +409,9 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
 
+    private void parseMetaData() {
         try {
             parserResult.setMetaData(metaDataParser.parse(
                     meta,
@@ -234,12 +419,6 @@ public class BibtexParser implements Parser {
         } catch (ParseException exception) {
             parserResult.addException(exception);
         }
-
-        parseRemainingContent();
-
-        checkEpilog();
-
-        return parserResult;
     }
 
     private void checkEpilog() {
@@ -278,7 +457,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            entries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -289,7 +468,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseJabRefComment(Map<String, String> meta) {
+    private void parseJabRefComment() {
         StringBuilder buffer;
         try {
             buffer = parseBracketedFieldContent();
@@ -394,12 +573,14 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
+        String text = new String(buffer, pureTextStart, position - pureTextStart);
+        pureTextStart = position;
 
-        return entry.toString();
+        // eof characters contained in the file are not part of the text
+        if (text.indexOf('\uFFFF') >= 0) {
+            return text.replace("\uFFFF", "");
+        }
+        return text;
     }
 
     /**
@@ -511,11 +692,10 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((position == limit) && !fillBuffer()) {
+            return -1;
         }
+        char character = buffer[position++];
         if (character == '\n') {
             line++;
         }
@@ -526,9 +706,53 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if ((position > pureTextStart) && (buffer[position - 1] == character)) {
+            position--;
+        } else if (!isEOFCharacter(character)) {
+            // A character different from the one read last is pushed back: it is read (and recorded) again
+            makeRoom();
+            System.arraycopy(buffer, position, buffer, position + 1, limit - position);
+            buffer[position] = (char) character;
+            limit++;
+        }
+        // The end of the file is reached again by reading, thus unreading it does not need to be recorded
+    }
+
+    /**
+     * Reads the next chunk from the reader into the buffer
+     *
+     * @return false if the reader is exhausted
+     */
+    private boolean fillBuffer() throws IOException {
+        if (endOfReader) {
+            return false;
+        }
+        makeRoom();
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            endOfReader = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Ensures there is space for at least one more character at the end of the buffer. The text already handed out by
+     * {@link #getPureTextFromFile()} is dropped, if that does not suffice, the buffer grows.
+     */
+    private void makeRoom() {
+        if (limit < buffer.length) {
+            return;
+        }
+        if (pureTextStart > 0) {
+            System.arraycopy(buffer, pureTextStart, buffer, 0, limit - pureTextStart);
+            position -= pureTextStart;
+            limit -= pureTextStart;
+            pureTextStart = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
         }
     }
 
@@ -954,7 +1178,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private boolean isEscapeSymbol(char character) {
+    private static boolean isEscapeSymbol(char character) {
         return '\\' == character;
     }
 
@@ -133,6 +133,12 @@ public class CitaviXmlImporter extends Importer implements Parser {
         return false;
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // Citavi files are zip archives
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -105,19 +106,8 @@ public class EndnoteXmlImporter extends Importer implements Parser {
         Objects.requireNonNull(input);
 
         List<BibEntry> bibItems = new ArrayList<>();
-
         try {
-            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-
-            while (reader.hasNext()) {
-                reader.next();
-                if (isStartXMLEvent(reader)) {
-                    String elementName = reader.getName().getLocalPart();
-                    if ("record".equals(elementName)) {
-                         parseRecord(reader, bibItems, elementName);
-                    }
-                }
-            }
+            parse(input, bibItems::add);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -125,7 +115,34 @@ public class EndnoteXmlImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private void parseRecord(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    @Override
+    public ParserResult importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
+
+        try {
+            parse(input, entryConsumer);
+        } catch (XMLStreamException e) {
+            LOGGER.debug("could not parse document", e);
+            return ParserResult.fromError(e);
+        }
+        return new ParserResult();
+    }
+
+    private void parse(BufferedReader input, Consumer<BibEntry> entryConsumer) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+
+        while (reader.hasNext()) {
+            reader.next();
+            if (isStartXMLEvent(reader)) {
+                String elementName = reader.getName().getLocalPart();
+                if ("record".equals(elementName)) {
+                    parseRecord(reader, entryConsumer, elementName);
+                }
+            }
+        }
+    }
+
+    private void parseRecord(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
         throws XMLStreamException {
 
         Map<Field, String> fields = new HashMap<>();
@@ -197,7 +214,7 @@ public class EndnoteXmlImporter extends Importer implements Parser {
 
         entry.setField(fields);
         entry.setFiles(linkedFiles);
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private static EntryType convertRefNameToType(String refName) {
@@ -0,0 +1,261 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.exporter.MetaDataSerializer;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.logic.util.BackupFileType;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary snapshot of the result of parsing a library, stored next to the backup files of the library.
+ * <p>
+ * The snapshot contains what {@link BibtexParser} extracted from the file: entries, strings, preamble, epilog, custom
+ * entry types and the (unparsed) metadata comments. It is only valid for the exact content of the file, which is
+ * checked using a hash of the content and the preferences influencing the parser.
+ */
+class LibrarySnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibrarySnapshot.class);
+
+    // Increase if the format changes or the parser produces different results
+    private static final int VERSION = 1;
+
+    private final Path snapshotFile;
+    private final String key;
+
+    /**
+     * @param content the content of the library file
+     */
+    LibrarySnapshot(Path snapshotFile, byte[] content, ImportFormatPreferences importFormatPreferences) {
+        this.snapshotFile = snapshotFile;
+        this.key = computeKey(content, importFormatPreferences);
+    }
+
+    static Optional<Path> getSnapshotFile(Path libraryFile, Path backupDir) {
+        return BackupFileUtil.getPathForSingleFileAndCreateDirectory(libraryFile.toAbsolutePath(), BackupFileType.SNAPSHOT, backupDir);
+    }
+
+    private static String computeKey(byte[] content, ImportFormatPreferences importFormatPreferences) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+        String preferences = VERSION + "|"
+                + importFormatPreferences.bibEntryPreferences().getKeywordSeparator() + "|"
+                + FieldFactory.serializeFieldsList(importFormatPreferences.fieldPreferences().getNonWrappableFields());
+        digest.update(preferences.getBytes(StandardCharsets.UTF_8));
+        digest.update(content);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Reads the snapshot
+     *
+     * @return empty if there is no snapshot matching the content of the library
+     */
+    Optional<ParserResult> read(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        if (!Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if ((in.readInt() != VERSION) || !key.equals(in.readUTF())) {
+                LOGGER.debug("Snapshot {} is outdated", snapshotFile);
+                return Optional.empty();
+            }
+
+            BibDatabase database = new BibDatabase();
+            database.setNewLineSeparator(readString(in));
+            String sharedDatabaseID = readNullableString(in);
+            if (sharedDatabaseID != null) {
+                database.setSharedDatabaseID(sharedDatabaseID);
+            }
+            database.setPreamble(readNullableString(in));
+            database.setEpilog(readString(in));
+
+            int numberOfStrings = in.readInt();
+            for (int i = 0; i < numberOfStrings; i++) {
+                BibtexString string = new BibtexString(readString(in), readString(in));
+                string.setParsedSerialization(readNullableString(in));
+                database.addString(string);
+            }
+
+            Set<BibEntryType> entryTypes = new HashSet<>();
+            int numberOfEntryTypes = in.readInt();
+            for (int i = 0; i < numberOfEntryTypes; i++) {
+                MetaDataParser.parseCustomEntryType(readString(in)).ifPresent(entryTypes::add);
+            }
+
+            Map<String, String> metaDataComments = new HashMap<>();
+            int numberOfMetaDataComments = in.readInt();
+            for (int i = 0; i < numberOfMetaDataComments; i++) {
+                metaDataComments.put(readString(in), readString(in));
+            }
+
+            int numberOfEntries = in.readInt();
+            List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+            for (int i = 0; i < numberOfEntries; i++) {
+                entries.add(readEntry(in));
+            }
+            database.insertEntries(entries);
+
+            ParserResult parserResult = new ParserResult(database, new MetaData(), entryTypes);
+            try {
+                parserResult.setMetaData(new MetaDataParser(fileMonitor).parse(
+                        metaDataComments,
+                        importFormatPreferences.bibEntryPreferences().getKeywordSeparator()));
+            } catch (ParseException exception) {
+                parserResult.addException(exception);
+            }
+            LOGGER.debug("Read library from snapshot {}", snapshotFile);
+            return Optional.of(parserResult);
+        } catch (IOException | KeyCollisionException e) {
+            LOGGER.warn("Could not read snapshot {}", snapshotFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private static BibEntry readEntry(DataInputStream in) throws IOException {
+        BibEntry entry = new BibEntry(EntryTypeFactory.parse(readString(in)));
+        String citationKey = readNullableString(in);
+        if (citationKey != null) {
+            entry.setCitationKey(citationKey);
+        }
+        int numberOfFields = in.readInt();
+        for (int i = 0; i < numberOfFields; i++) {
+            entry.setField(FieldFactory.parseField(readString(in)), readString(in));
+        }
+        entry.setCommentsBeforeEntry(readString(in));
+        entry.setParsedSerialization(readNullableString(in));
+        return entry;
+    }
+
+    /**
+     * Writes the snapshot. Failures are logged only, because the snapshot is a cache.
+     *
+     * @param metaDataComments the metadata comments found by the parser
+     */
+    void write(ParserResult parserResult, Map<String, String> metaDataComments) {
+        Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            BibDatabase database = parserResult.getDatabase();
+            out.writeInt(VERSION);
+            out.writeUTF(key);
+
+            writeString(out, database.getNewLineSeparator());
+            writeNullableString(out, database.getSharedDatabaseID().orElse(null));
+            writeNullableString(out, database.getPreamble().orElse(null));
+            writeString(out, database.getEpilog());
+
+            out.writeInt(database.getStringCount());
+            for (BibtexString string : database.getStringValues()) {
+                writeString(out, string.getName());
+                writeString(out, string.getContent());
+                writeNullableString(out, string.getParsedSerialization());
+            }
+
+            out.writeInt(parserResult.getEntryTypes().size());
+            for (BibEntryType entryType : parserResult.getEntryTypes()) {
+                writeString(out, MetaDataSerializer.serializeCustomEntryTypes(entryType));
+            }
+
+            out.writeInt(metaDataComments.size());
+            for (Map.Entry<String, String> comment : metaDataComments.entrySet()) {
+                writeString(out, comment.getKey());
+                writeString(out, comment.getValue());
+            }
+
+            out.writeInt(database.getEntryCount());
+            for (BibEntry entry : database.getEntries()) {
+                writeEntry(out, entry);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write snapshot {}", snapshotFile, e);
+            return;
+        }
+
+        try {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write snapshot {}", snapshotFile, e);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, BibEntry entry) throws IOException {
+        writeString(out, entry.getType().getName());
+        writeNullableString(out, entry.getCitationKey().orElse(null));
+        Map<Field, String> fields = new HashMap<>(entry.getFieldMap());
+        fields.remove(InternalField.KEY_FIELD);
+        out.writeInt(fields.size());
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            writeString(out, field.getKey().getName());
+            writeString(out, field.getValue());
+        }
+        writeString(out, entry.getUserComments());
+        writeNullableString(out, entry.getParsedSerialization());
+    }
+
+    /**
+     * Strings are written as length and UTF-8 bytes, because {@link DataOutputStream#writeUTF(String)} is limited to
+     * 64 KB, which is exceeded by some field contents.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            writeString(out, string);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+}
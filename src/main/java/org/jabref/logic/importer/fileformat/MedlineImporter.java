@@ -13,6 +13,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -108,33 +109,48 @@ public class MedlineImporter extends Importer implements Parser {
         Objects.requireNonNull(input);
 
         List<BibEntry> bibItems = new ArrayList<>();
+        try {
+            parse(input, bibItems::add);
+        } catch (XMLStreamException e) {
+            LOGGER.debug("could not parse document", e);
+            return ParserResult.fromError(e);
+        }
+        return new ParserResult(bibItems);
+    }
+
+    @Override
+    public ParserResult importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
 
         try {
-            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-
-            while (reader.hasNext()) {
-                reader.next();
-                if (isStartXMLEvent(reader)) {
-                    String elementName = reader.getName().getLocalPart();
-                    switch (elementName) {
-                        case "PubmedArticle" -> {
-                            parseArticle(reader, bibItems, elementName);
-                        }
-                        case "PubmedBookArticle" -> {
-                            parseBookArticle(reader, bibItems, elementName);
-                        }
-                    }
-                }
-            }
+            parse(input, entryConsumer);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
+        return new ParserResult();
+    }
 
-        return new ParserResult(bibItems);
+    private void parse(BufferedReader input, Consumer<BibEntry> entryConsumer) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+
+        while (reader.hasNext()) {
+            reader.next();
+            if (isStartXMLEvent(reader)) {
+                String elementName = reader.getName().getLocalPart();
+                switch (elementName) {
+                    case "PubmedArticle" -> {
+                        parseArticle(reader, entryConsumer, elementName);
+                    }
+                    case "PubmedBookArticle" -> {
+                        parseBookArticle(reader, entryConsumer, elementName);
+                    }
+                }
+            }
+        }
     }
 
-    private void parseBookArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    private void parseBookArticle(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -163,7 +179,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void parseBookDocument(XMLStreamReader reader, Map<Field, String> fields, String startElement)
@@ -364,7 +380,7 @@ public class MedlineImporter extends Importer implements Parser {
         }
     }
 
-    private void parseArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    private void parseArticle(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -390,7 +406,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void parsePubmedData(XMLStreamReader reader, Map<Field, String> fields, String startElement)
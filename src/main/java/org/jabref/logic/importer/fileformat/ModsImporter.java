@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -76,17 +77,33 @@ public class ModsImporter extends Importer implements Parser {
 
         List<BibEntry> bibItems = new ArrayList<>();
         try {
-            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-            parseModsCollection(bibItems, reader);
+            parse(input, bibItems::add);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
-
         return new ParserResult(bibItems);
     }
 
-    private void parseModsCollection(List<BibEntry> bibItems, XMLStreamReader reader) throws XMLStreamException {
+    @Override
+    public ParserResult importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
+
+        try {
+            parse(input, entryConsumer);
+        } catch (XMLStreamException e) {
+            LOGGER.debug("could not parse document", e);
+            return ParserResult.fromError(e);
+        }
+        return new ParserResult();
+    }
+
+    private void parse(BufferedReader input, Consumer<BibEntry> entryConsumer) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+        parseModsCollection(entryConsumer, reader);
+    }
+
+    private void parseModsCollection(Consumer<BibEntry> entryConsumer, XMLStreamReader reader) throws XMLStreamException {
         while (reader.hasNext()) {
             reader.next();
             if (isStartXMLEvent(reader) && "mods".equals(reader.getName().getLocalPart())) {
@@ -101,7 +118,7 @@ public class ModsImporter extends Importer implements Parser {
                 parseModsGroup(fields, reader, entry);
 
                 entry.setField(fields);
-                bibItems.add(entry);
+                entryConsumer.accept(entry);
             }
         }
     }
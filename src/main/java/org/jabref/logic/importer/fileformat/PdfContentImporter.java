@@ -189,6 +189,12 @@ public class PdfContentImporter extends Importer {
                 + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) {
         final ArrayList<BibEntry> result = new ArrayList<>(1);
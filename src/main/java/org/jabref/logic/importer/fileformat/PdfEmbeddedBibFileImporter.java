@@ -59,6 +59,12 @@ public class PdfEmbeddedBibFileImporter extends Importer {
                 + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) {
         try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(filePath)) {
@@ -55,6 +55,12 @@ public class PdfGrobidImporter extends Importer {
                         + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) {
         Objects.requireNonNull(filePath);
@@ -70,6 +70,12 @@ public class PdfMergeMetadataImporter extends Importer {
                 + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
         List<BibEntry> candidates = new ArrayList<>();
@@ -51,6 +51,12 @@ public class PdfVerbatimBibTextImporter extends Importer {
                 + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) {
         List<BibEntry> result;
@@ -50,6 +50,12 @@ public class PdfXmpImporter extends Importer {
                         + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFilesAsText() {
+        // PDF files are read as binary files
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) {
         Objects.requireNonNull(filePath);
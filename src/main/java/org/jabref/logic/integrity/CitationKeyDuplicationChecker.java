@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -12,10 +13,17 @@ import org.jabref.model.entry.field.StandardField;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> isDuplicateCitationKey;
 
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(Objects.requireNonNull(database)::isDuplicateCitationKeyExisting);
+    }
+
+    /**
+     * @param isDuplicateCitationKey determines whether a citation key is used more than once, e.g., using a precomputed set
+     */
+    CitationKeyDuplicationChecker(Predicate<String> isDuplicateCitationKey) {
+        this.isDuplicateCitationKey = isDuplicateCitationKey;
     }
 
     @Override
@@ -25,7 +33,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return Collections.emptyList();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = isDuplicateCitationKey.test(citeKey.get());
         if (isDuplicate) {
             return Collections.singletonList(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
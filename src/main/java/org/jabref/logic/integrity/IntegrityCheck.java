@@ -1,8 +1,12 @@
 package org.jabref.logic.integrity;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -13,11 +17,21 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.FilePreferences;
 
+/**
+ * Checks the entries of a library for problems.
+ * <p>
+ * Most checks depend on the entry only. Their results are cached per library (see {@link IntegrityCheckCache}), so that
+ * checking the library again only checks the entries changed in between. Checks depending on other entries or on the
+ * file system are always run.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final FieldCheckers fieldCheckers;
+    // Checkers depending on the entry (and the configuration below) only
     private final List<EntryChecker> entryCheckers;
+    private final CitationKeyDeviationChecker citationKeyDeviationChecker;
+    private final List<Object> configuration;
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -32,22 +46,23 @@ public class IntegrityCheck {
                 journalAbbreviationRepository,
                 allowIntegerEdition);
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers = new ArrayList<>(fieldCheckers.getAll().stream()
+                                                     .filter(fieldChecker -> !isFileChecker(fieldChecker))
+                                                     .toList());
+        entryCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository),
                 new PredatoryJournalChecker(predatoryJournalRepository,
                         List.of(StandardField.JOURNAL, StandardField.PUBLISHER, StandardField.BOOKTITLE))
                 ));
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            entryCheckers.add(new UTF8Checker(encoding));
         } else {
             entryCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
@@ -55,16 +70,23 @@ public class IntegrityCheck {
                     new BibTeXEntryTypeChecker())
             );
         }
+        citationKeyDeviationChecker = new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences);
+
+        // Everything the results of the entry checkers depend on besides the entry. The repositories are compared by identity.
+        configuration = List.of(bibDatabaseContext.getMode(), encoding, allowIntegerEdition, journalAbbreviationRepository, predatoryJournalRepository);
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    /**
+     * The file checker depends on the file system, thus its result cannot be cached
+     */
+    private static boolean isFileChecker(FieldChecker fieldChecker) {
+        return fieldChecker.field == StandardField.FILE;
+    }
 
+    List<IntegrityMessage> check() {
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = new ArrayList<>(checkEntries(database.getEntries(), () -> false, () -> { }));
         result.addAll(checkDatabase(database));
 
         return result;
@@ -76,17 +98,74 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        for (EntryChecker entryChecker : entryCheckers) {
+            result.addAll(entryChecker.check(entry));
+        }
+
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        for (EntryChecker libraryChecker : getLibraryCheckers(new EntryLinkChecker(database), new CitationKeyDuplicationChecker(database))) {
+            result.addAll(libraryChecker.check(entry));
         }
 
+        return result;
+    }
+
+    /**
+     * Checks the given entries of the library in parallel. Results of previous checks of unchanged entries are reused.
+     *
+     * @param isCancelled polled before checking an entry. If it returns <code>true</code>, the remaining entries are skipped.
+     * @param onChecked   called after an entry has been checked, possibly from different threads
+     * @return the messages in the order of the entries
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries, BooleanSupplier isCancelled, Runnable onChecked) {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        IntegrityCheckCache cache = IntegrityCheckCache.forDatabase(database);
+
+        // The citation keys are determined once instead of querying the (synchronized) database for each entry
+        Set<String> citationKeys = new HashSet<>();
+        Set<String> duplicateCitationKeys = new HashSet<>();
+        for (BibEntry entry : database.getEntries()) {
+            entry.getCitationKey().filter(key -> !citationKeys.add(key)).ifPresent(duplicateCitationKeys::add);
+        }
+        List<EntryChecker> libraryCheckers = getLibraryCheckers(
+                new EntryLinkChecker(citationKeys::contains),
+                new CitationKeyDuplicationChecker(duplicateCitationKeys::contains));
+
+        return List.copyOf(entries).parallelStream()
+                   .map(entry -> {
+                       if (isCancelled.getAsBoolean()) {
+                           return List.<IntegrityMessage>of();
+                       }
+                       List<IntegrityMessage> result = new ArrayList<>(cache.get(entry, configuration, this::checkEntryOnly));
+                       for (EntryChecker libraryChecker : libraryCheckers) {
+                           result.addAll(libraryChecker.check(entry));
+                       }
+                       onChecked.run();
+                       return result;
+                   })
+                   .flatMap(List::stream)
+                   .toList();
+    }
+
+    private List<IntegrityMessage> checkEntryOnly(BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>();
         for (EntryChecker entryChecker : entryCheckers) {
             result.addAll(entryChecker.check(entry));
         }
-
         return result;
     }
 
+    /**
+     * Returns the checkers depending on other entries of the library or on the file system
+     */
+    private List<EntryChecker> getLibraryCheckers(EntryLinkChecker entryLinkChecker, CitationKeyDuplicationChecker citationKeyDuplicationChecker) {
+        List<EntryChecker> libraryCheckers = new ArrayList<>(fieldCheckers.getAll().stream()
+                                                                          .filter(IntegrityCheck::isFileChecker)
+                                                                          .toList());
+        libraryCheckers.addAll(List.of(entryLinkChecker, citationKeyDeviationChecker, citationKeyDuplicationChecker));
+        return libraryCheckers;
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
         return new DoiDuplicationChecker().check(database);
     }
@@ -0,0 +1,78 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.types.EntryType;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Per-library cache of the messages of the checks depending on the entry only.
+ * <p>
+ * A cached result is dropped as soon as its entry changes. In addition, each result stores the type and fields of the
+ * entry it was computed for and is only reused if they are still the same, because an entry may change while it is being
+ * checked.
+ */
+class IntegrityCheckCache {
+
+    private static final Map<BibDatabase, IntegrityCheckCache> CACHES = new MapMaker().weakKeys().makeMap();
+
+    // Weak keys are compared by identity, which is required as entries are equal if their content is
+    private final Map<BibEntry, CachedResult> results = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Returns the cache of the given database. The cache is created on first access.
+     */
+    static IntegrityCheckCache forDatabase(BibDatabase database) {
+        return CACHES.computeIfAbsent(database, db -> {
+            IntegrityCheckCache cache = new IntegrityCheckCache();
+            db.registerListener(cache);
+            return cache;
+        });
+    }
+
+    /**
+     * Returns the cached messages of the entry, or checks the entry if there are none.
+     *
+     * @param configuration everything the result of the checker depends on besides the entry
+     */
+    List<IntegrityMessage> get(BibEntry entry, List<Object> configuration, Function<BibEntry, List<IntegrityMessage>> checker) {
+        // Take the snapshot before checking, so that a concurrent change leads to a mismatch later on
+        EntryType type = entry.getType();
+        Map<Field, String> fields = Map.copyOf(entry.getFieldMap());
+
+        CachedResult cachedResult = results.get(entry);
+        if ((cachedResult != null) && cachedResult.isValidFor(configuration, type, fields)) {
+            return cachedResult.messages();
+        }
+
+        List<IntegrityMessage> messages = List.copyOf(checker.apply(entry));
+        results.put(entry, new CachedResult(configuration, type, fields, messages));
+        return messages;
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        results.remove(event.getBibEntry());
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(results::remove);
+    }
+
+    private record CachedResult(List<Object> configuration, EntryType type, Map<Field, String> fields, List<IntegrityMessage> messages) {
+
+        boolean isValidFor(List<Object> otherConfiguration, EntryType otherType, Map<Field, String> otherFields) {
+            return configuration.equals(otherConfiguration) && type.equals(otherType) && fields.equals(otherFields);
+        }
+    }
+}
@@ -7,7 +7,9 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,9 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // The built-in list is copied and opened only once, all repositories read from this store
+    private static MVStore builtInJournalList;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -35,18 +40,9 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
-                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
-                repository = new JournalAbbreviationRepository();
-            } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
-            }
+        try {
+            repository = getBuiltInJournalList().map(JournalAbbreviationRepository::new)
+                                                .orElseGet(JournalAbbreviationRepository::new);
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
             return null;
@@ -69,6 +65,31 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * Opens the built-in journal list. The list is copied out of the jar on the first call and kept open until JabRef
+     * exits.
+     *
+     * @return the store of the built-in list, or an empty optional if there is no built-in list
+     */
+    private static synchronized Optional<MVStore> getBuiltInJournalList() throws IOException {
+        if (builtInJournalList != null) {
+            return Optional.of(builtInJournalList);
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
+                return Optional.empty();
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            tempDir.toFile().deleteOnExit();
+            tempJournalList.toFile().deleteOnExit();
+            builtInJournalList = new MVStore.Builder().readOnly().fileName(tempJournalList.toAbsolutePath().toString()).open();
+        }
+        return Optional.of(builtInJournalList);
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
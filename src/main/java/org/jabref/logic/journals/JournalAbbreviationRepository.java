@@ -1,50 +1,71 @@
 package org.jabref.logic.journals;
 
-import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are read from the MV file on demand. Custom abbreviations are matched case-insensitively and
+ * take precedence over the built-in ones.
  */
 public class JournalAbbreviationRepository {
+    public static final String FULL_TO_ABBREVIATION_MAP = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP = "ShortestUniqueToFull";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    /**
+     * The values lack the full name, because it is not serialized. Use {@link #getBuiltIn(String)} to look them up.
+     */
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, String> abbreviationToFullName;
+    private final Map<String, String> dotlessToFullName;
+    private final Map<String, String> shortestUniqueToFullName;
+
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    /**
+     * Maps the lower case forms (full name and all abbreviations) of the custom abbreviations to the abbreviations
+     */
+    private final Map<String, SortedSet<Abbreviation>> customAbbreviationsByKey = new HashMap<>();
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Initializes the internal data based on the abbreviations found in the given store. The store is only read, thus
+     * it can be shared between repositories.
      */
-    public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
+    JournalAbbreviationRepository(MVStore store) {
+        MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP);
+        fullToAbbreviationObject = mvFullToAbbreviationObject;
+        if (store.hasMap(ABBREVIATION_TO_FULL_MAP) && store.hasMap(DOTLESS_TO_FULL_MAP) && store.hasMap(SHORTEST_UNIQUE_TO_FULL_MAP)) {
+            abbreviationToFullName = store.openMap(ABBREVIATION_TO_FULL_MAP);
+            dotlessToFullName = store.openMap(DOTLESS_TO_FULL_MAP);
+            shortestUniqueToFullName = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP);
+        } else {
+            // Files written by older generators only contain the map of the full names
+            abbreviationToFullName = new HashMap<>();
+            dotlessToFullName = new HashMap<>();
+            shortestUniqueToFullName = new HashMap<>();
             mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
+                Abbreviation newAbbreviation = new Abbreviation(name, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation());
+                abbreviationToFullName.put(newAbbreviation.getAbbreviation(), name);
+                dotlessToFullName.put(newAbbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFullName.put(newAbbreviation.getShortestUniqueAbbreviation(), name);
             });
         }
     }
@@ -58,27 +79,35 @@ public class JournalAbbreviationRepository {
                 "Demo",
                 "Dem"
         );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        fullToAbbreviationObject = Map.of("Demonstration", newAbbreviation);
+        abbreviationToFullName = Map.of("Demo", "Demonstration");
+        dotlessToFullName = Map.of("Demo", "Demonstration");
+        shortestUniqueToFullName = Map.of("Dem", "Demonstration");
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Writes the lookup maps used by the repository to the given store
+     */
+    public static void writeLookupMaps(MVStore store, Map<String, Abbreviation> fullToAbbreviation) {
+        MVMap<String, String> abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP);
+        MVMap<String, String> dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP);
+        MVMap<String, String> shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP);
+        fullToAbbreviation.forEach((name, abbreviation) -> {
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        if (isExpanded) {
-            return false;
-        }
-        return name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Trims the journal name and unescapes the ampersand
+     */
+    private static String clean(String journalName) {
+        return journalName.trim().replace("\\&", "&");
+    }
+
+    private static String toKey(String journalName) {
+        return journalName.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -89,12 +118,12 @@ public class JournalAbbreviationRepository {
         if (QUESTION_MARK.matcher(journalName).find()) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
+        String journal = clean(journalName);
+        return customAbbreviationsByKey.containsKey(toKey(journal))
                 || fullToAbbreviationObject.containsKey(journal)
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+                || abbreviationToFullName.containsKey(journal)
+                || dotlessToFullName.containsKey(journal)
+                || shortestUniqueToFullName.containsKey(journal);
     }
 
     /**
@@ -105,11 +134,13 @@ public class JournalAbbreviationRepository {
         if (QUESTION_MARK.matcher(journalName).find()) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        String journal = clean(journalName);
+        String key = toKey(journal);
+        return customAbbreviationsByKey.getOrDefault(key, Collections.emptySortedSet()).stream()
+                                       .anyMatch(abbreviation -> !key.equals(toKey(abbreviation.getName())))
+                || abbreviationToFullName.containsKey(journal)
+                || dotlessToFullName.containsKey(journal)
+                || shortestUniqueToFullName.containsKey(journal);
     }
 
     /**
@@ -118,20 +149,23 @@ public class JournalAbbreviationRepository {
      * @param input The journal name (either full name or abbreviated name).
      */
     public Optional<Abbreviation> get(String input) {
-        // Clean up input: trim and unescape ampersand
-        String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        String journal = clean(input);
+
+        SortedSet<Abbreviation> customAbbreviation = customAbbreviationsByKey.get(toKey(journal));
+        if (customAbbreviation != null) {
+            return Optional.of(customAbbreviation.first());
         }
 
-        return Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        return getBuiltIn(journal)
+                .or(() -> Optional.ofNullable(abbreviationToFullName.get(journal)).flatMap(this::getBuiltIn))
+                .or(() -> Optional.ofNullable(dotlessToFullName.get(journal)).flatMap(this::getBuiltIn))
+                .or(() -> Optional.ofNullable(shortestUniqueToFullName.get(journal)).flatMap(this::getBuiltIn));
+    }
+
+    private Optional<Abbreviation> getBuiltIn(String fullName) {
+        // The name is not serialized to the MV file, thus the abbreviation is restored using the key
+        return Optional.ofNullable(fullToAbbreviationObject.get(fullName))
+                       .map(abbreviation -> new Abbreviation(fullName, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation()));
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
@@ -140,7 +174,11 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            for (String form : List.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())) {
+                customAbbreviationsByKey.computeIfAbsent(toKey(form), key -> new TreeSet<>()).add(abbreviation);
+            }
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
@@ -172,6 +210,9 @@ public class JournalAbbreviationRepository {
     }
 
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return fullToAbbreviationObject.keySet().stream()
+                                       .map(this::getBuiltIn)
+                                       .flatMap(Optional::stream)
+                                       .collect(Collectors.toList());
     }
 }
@@ -1,12 +1,11 @@
 package org.jabref.logic.journals.predatory;
 
 import java.nio.file.Path;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
-import java.util.stream.Collectors;
 
-import org.jabref.logic.util.strings.StringSimilarity;
+import org.jabref.logic.util.strings.StringSimilarityIndex;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -19,8 +18,8 @@ import org.slf4j.LoggerFactory;
 public class PredatoryJournalRepository implements AutoCloseable {
     private final Logger LOGGER = LoggerFactory.getLogger(PredatoryJournalRepository.class);
     private final Map<String, PredatoryJournalInformation> predatoryJournals;
-    private final StringSimilarity match = new StringSimilarity();
     private final MVStore store;
+    private StringSimilarityIndex similarNames;
 
     /**
      * Initializes the internal data based on the predatory journals found in the given MV file
@@ -50,14 +49,22 @@ public class PredatoryJournalRepository implements AutoCloseable {
             return true;
         }
 
-        var matches = predatoryJournals.keySet().stream()
-                                       .filter(key -> match.isSimilar(journal.toLowerCase(Locale.ROOT), key.toLowerCase(Locale.ROOT)))
-                                       .collect(Collectors.toList());
+        List<String> matches = getSimilarNames().findSimilar(journal);
 
         LOGGER.info("Found multiple possible predatory journals {}", String.join(", ", matches));
         return !matches.isEmpty();
     }
 
+    /**
+     * The index is built on first use, because reading all names from the MV file takes some time
+     */
+    private synchronized StringSimilarityIndex getSimilarNames() {
+        if (similarNames == null) {
+            similarNames = new StringSimilarityIndex(predatoryJournals.keySet());
+        }
+        return similarNames;
+    }
+
     @Override
     public void close() throws Exception {
         if (store != null) {
@@ -87,6 +87,14 @@ public class Layout {
         }
     }
 
+    /**
+     * Checks whether this layout prints group headers. These depend on the previously printed entry, thus entries
+     * have to be laid out one after the other.
+     */
+    public boolean hasGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::hasGroups);
+    }
+
     public String getText() {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
@@ -200,6 +200,15 @@ class LayoutEntry {
         this.postFormatter = formatter;
     }
 
+    /**
+     * Checks whether this entry or one of its nested entries is a group, which is only printed if it differs from the
+     * group of the previously printed entry.
+     */
+    public boolean hasGroups() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::hasGroups));
+    }
+
     public String doLayout(BibEntry bibtex, BibDatabase database) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
@@ -1,5 +1,7 @@
 package org.jabref.logic.layout.format;
 
+import java.util.function.Supplier;
+
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
@@ -10,6 +12,21 @@ public class Number implements ParamLayoutFormatter {
 
     public static int serialExportNumber;
 
+    private static final ThreadLocal<Integer> ENTRY_NUMBER = new ThreadLocal<>();
+
+    /**
+     * Lets the given layout of an entry output the given sequence number instead of {@link #serialExportNumber}. The
+     * number is only seen by the current thread, so that entries can be laid out in parallel.
+     */
+    public static <T> T withSerialExportNumber(int number, Supplier<T> layout) {
+        ENTRY_NUMBER.set(number);
+        try {
+            return layout.get();
+        } finally {
+            ENTRY_NUMBER.remove();
+        }
+    }
+
     @Override
     public void setArgument(String arg) {
         // No effect currently.
@@ -17,6 +34,7 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        Integer number = ENTRY_NUMBER.get();
+        return String.valueOf(number == null ? serialExportNumber : number);
     }
 }
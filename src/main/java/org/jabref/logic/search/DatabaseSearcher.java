@@ -34,7 +34,11 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).toList();
+        InvertedFieldIndex.Candidates candidates = InvertedFieldIndex.forDatabase(database).getCandidates(query);
+        List<BibEntry> matchEntries = database.getEntries().stream()
+                                              .filter(candidates::mayMatch)
+                                              .filter(query::isMatch)
+                                              .toList();
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
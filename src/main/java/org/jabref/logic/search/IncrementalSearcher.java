@@ -0,0 +1,131 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * Searches the entries of a database for the queries the user types one after another.
+ * <p>
+ * The searcher remembers the result of the last completed search. If the new query refines the last one, i.e., each
+ * entry matched by the new query is also matched by the last one, only the entries matched last time and the entries
+ * changed since are searched. The entries are further narrowed down by the {@link InvertedFieldIndex} and matched in
+ * chunks, so that a search is given up quickly when it is cancelled because the user continued typing.
+ */
+public class IncrementalSearcher {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BibDatabase database;
+    private volatile SearchResult lastResult;
+
+    public IncrementalSearcher(BibDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Searches the entries matched by the given query.
+     *
+     * @param isCancelled checked before each chunk of entries
+     * @return the result, or an empty optional if the search was cancelled
+     */
+    public Optional<SearchResult> search(SearchQuery query, BooleanSupplier isCancelled) {
+        // The index is built on the first search only, so that opening a library does not wait for it
+        InvertedFieldIndex index = InvertedFieldIndex.forDatabase(database);
+        // Take the revision first, so that entries changed while searching are matched again later on
+        long revision = index.getRevision();
+        SearchResult previousResult = lastResult;
+        boolean isRefinement = (previousResult != null) && refines(query, previousResult.getQuery());
+        InvertedFieldIndex.Candidates candidates = index.getCandidates(query);
+        List<BibEntry> entries = new ArrayList<>(database.getEntries());
+
+        // Entries are equal if their content is, thus we need to compare by identity
+        Set<BibEntry> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int chunkStart = 0; chunkStart < entries.size(); chunkStart += CHUNK_SIZE) {
+            if (isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            for (BibEntry entry : entries.subList(chunkStart, Math.min(chunkStart + CHUNK_SIZE, entries.size()))) {
+                if (isRefinement && !previousResult.matches.contains(entry) && !index.isChangedSince(entry, previousResult.revision)) {
+                    continue;
+                }
+                if (candidates.mayMatch(entry) && query.isMatch(entry)) {
+                    matches.add(entry);
+                }
+            }
+        }
+
+        SearchResult result = new SearchResult(index, query, matches, revision);
+        lastResult = result;
+        return Optional.of(result);
+    }
+
+    /**
+     * Checks whether each entry matched by the new query is matched by the previous query. This holds for contains based
+     * searches if each word of the previous query is part of a word of the new query, e.g., if a word was appended or
+     * completed. The words are normalized the same way as by the {@link org.jabref.model.search.rules.ContainsBasedSearchRule}.
+     */
+    static boolean refines(SearchQuery newQuery, SearchQuery previousQuery) {
+        if (!newQuery.isContainsBasedSearch() || !previousQuery.isContainsBasedSearch()
+                || !newQuery.getSearchFlags().equals(previousQuery.getSearchFlags())
+                || newQuery.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            // A full text search also matches entries whose files contain the whole query, which is not refined by a longer query
+            return false;
+        }
+        boolean isCaseSensitive = newQuery.getSearchFlags().contains(SearchFlags.CASE_SENSITIVE);
+        List<String> newWords = normalizedWords(newQuery.getQuery(), isCaseSensitive);
+        List<String> previousWords = normalizedWords(previousQuery.getQuery(), isCaseSensitive);
+        return previousWords.stream().allMatch(previousWord -> newWords.stream().anyMatch(newWord -> newWord.contains(previousWord)));
+    }
+
+    private static List<String> normalizedWords(String query, boolean isCaseSensitive) {
+        String searchString = isCaseSensitive ? query : query.toLowerCase(Locale.ROOT);
+        return new SentenceAnalyzer(searchString).getWords().stream()
+                                                 .map(StringUtil::stripAccents)
+                                                 .toList();
+    }
+
+    /**
+     * The entries matched by a query. Entries changed after the search are matched against the query again.
+     */
+    public static class SearchResult {
+
+        private final InvertedFieldIndex index;
+        private final SearchQuery query;
+        private final Set<BibEntry> matches;
+        private final long revision;
+
+        private SearchResult(InvertedFieldIndex index, SearchQuery query, Set<BibEntry> matches, long revision) {
+            this.index = index;
+            this.query = query;
+            this.matches = matches;
+            this.revision = revision;
+        }
+
+        public SearchQuery getQuery() {
+            return query;
+        }
+
+        public int getNumberOfMatches() {
+            return matches.size();
+        }
+
+        public boolean isMatch(BibEntry entry) {
+            if (index.isChangedSince(entry, revision)) {
+                return query.isMatch(entry);
+            }
+            return matches.contains(entry);
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package org.jabref.logic.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.ContainsBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.model.strings.StringUtil;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index from the tokens of each field to the entries containing them.
+ * <p>
+ * The index narrows down the entries a {@link SearchQuery} has to be evaluated on. It always yields a superset of the
+ * matching entries, the final decision is still taken by {@link SearchQuery#isMatch(BibEntry)}. Queries the index cannot
+ * answer (regular expressions, full text search, negations) yield all entries, which is the same as a plain scan.
+ * <p>
+ * Substrings are looked up by the trigrams of the tokens, so that a query does not have to scan all tokens. Query
+ * words shorter than a trigram do not restrict the candidates.
+ * <p>
+ * Postings are only ever appended. Changed and removed entries leave stale postings behind, which are dropped as soon as
+ * they make up the majority of the index.
+ */
+public class InvertedFieldIndex {
+
+    private static final Map<BibDatabase, InvertedFieldIndex> INDEXES = new MapMaker().weakKeys().makeMap();
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_POSTINGS_FOR_REBUILD = 10_000;
+    private static final int GRAM_LENGTH = 3;
+
+    // Weak, as the entries refer to the database by their event bus, which would keep the database in INDEXES
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new MapMaker().weakKeys().makeMap();
+    private final Map<String, Map<Field, Postings>> postingsByToken = new HashMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+    private int nextOrdinal = 0;
+    private long revision = 0;
+    private long totalPostings = 0;
+    private long stalePostings = 0;
+
+    private InvertedFieldIndex() {
+    }
+
+    /**
+     * Returns the index of the given database. The index is created on first access and then kept up to date by the
+     * events of the database. The index may be created by any thread, e.g., by the first search in the background.
+     */
+    public static synchronized InvertedFieldIndex forDatabase(BibDatabase database) {
+        InvertedFieldIndex index = INDEXES.get(database);
+        if (index == null) {
+            index = new InvertedFieldIndex();
+            synchronized (index) {
+                // Register first to not miss changes made meanwhile. They are handled once the index is built, adding
+                // an entry twice has no effect.
+                database.registerListener(index);
+                // Copying the entries is atomic, iterating them is not
+                List.copyOf(database.getEntries()).forEach(index::addEntry);
+            }
+            INDEXES.put(database, index);
+        }
+        return index;
+    }
+
+    /**
+     * Determines the entries which may match the given query.
+     */
+    public synchronized Candidates getCandidates(SearchQuery query) {
+        BitSet ordinals = null;
+        EnumSet<SearchFlags> searchFlags = query.getSearchFlags();
+        if (!searchFlags.contains(SearchFlags.FULLTEXT) && !searchFlags.contains(SearchFlags.REGULAR_EXPRESSION)) {
+            if (query.getRule() instanceof ContainsBasedSearchRule) {
+                ordinals = findContainingAllWords(query.getQuery(), searchFlags);
+            } else if (query.getRule() instanceof GrammarBasedSearchRule grammarRule && query.isValid()) {
+                ordinals = new CandidateVisitor(searchFlags).visit(grammarRule.getTree());
+            }
+        }
+        return new Candidates(this, ordinals, revision);
+    }
+
+    /**
+     * Returns the current revision, which increases with each added or changed entry.
+     */
+    public synchronized long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns whether the entry was added or changed after the given revision. Unknown entries are considered as changed.
+     */
+    public synchronized boolean isChangedSince(BibEntry entry, long sinceRevision) {
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        return (indexedEntry == null) || (indexedEntry.revision > sinceRevision);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            if (indexedEntries.remove(entry) != null) {
+                entry.getFieldMap().values().forEach(value -> stalePostings += tokenize(value).size());
+            }
+        }
+        rebuildIfMostlyStale();
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        IndexedEntry indexedEntry = indexedEntries.get(event.getBibEntry());
+        if (indexedEntry == null) {
+            // Entry is not (longer) part of the database
+            return;
+        }
+        indexedEntry.revision = ++revision;
+        if (event.getOldValue() != null) {
+            stalePostings += tokenize(event.getOldValue()).size();
+        }
+        addField(event.getBibEntry(), event.getField(), indexedEntry.ordinal);
+        rebuildIfMostlyStale();
+    }
+
+    private void addEntry(BibEntry entry) {
+        IndexedEntry indexedEntry = new IndexedEntry(nextOrdinal++, ++revision);
+        if (indexedEntries.putIfAbsent(entry, indexedEntry) != null) {
+            return;
+        }
+        for (Field field : entry.getFields()) {
+            addField(entry, field, indexedEntry.ordinal);
+        }
+    }
+
+    private void addField(BibEntry entry, Field field, int ordinal) {
+        // Events are also posted for the entry type and the id, which are not searched as fields
+        Optional<String> content = entry.hasField(field) ? entry.getFieldLatexFree(field) : Optional.empty();
+        if (content.isEmpty()) {
+            return;
+        }
+        for (String token : tokenize(content.get())) {
+            postingsByToken.computeIfAbsent(token, this::addToGrams)
+                           .computeIfAbsent(field, key -> new Postings())
+                           .add(ordinal);
+            totalPostings++;
+        }
+    }
+
+    /**
+     * Makes the new token findable by its trigrams.
+     *
+     * @return the (empty) postings of the token
+     */
+    private Map<Field, Postings> addToGrams(String token) {
+        for (int start = 0; start + GRAM_LENGTH <= token.length(); start++) {
+            tokensByGram.computeIfAbsent(token.substring(start, start + GRAM_LENGTH), key -> new HashSet<>()).add(token);
+        }
+        return new HashMap<>();
+    }
+
+    private void rebuildIfMostlyStale() {
+        if ((totalPostings < MIN_POSTINGS_FOR_REBUILD) || (stalePostings * 2 < totalPostings)) {
+            return;
+        }
+        postingsByToken.clear();
+        tokensByGram.clear();
+        totalPostings = 0;
+        stalePostings = 0;
+        // Ordinals are kept, because candidates handed out earlier refer to them
+        indexedEntries.forEach((entry, indexedEntry) -> entry.getFields().forEach(field -> addField(entry, field, indexedEntry.ordinal)));
+    }
+
+    /**
+     * Splits the content into distinct lower case tokens the same way field contents are normalized by the search rules.
+     */
+    private static Set<String> tokenize(String content) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(StringUtil.stripAccents(content).toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Finds the entries containing all the words of the query in at least one of their fields.
+     *
+     * @return the ordinals of the candidates, <code>null</code> if no restriction is possible
+     */
+    private BitSet findContainingAllWords(String query, EnumSet<SearchFlags> searchFlags) {
+        String searchString = searchFlags.contains(SearchFlags.CASE_SENSITIVE) ? query : query.toLowerCase(Locale.ROOT);
+        BitSet result = null;
+        for (String word : new SentenceAnalyzer(searchString).getWords()) {
+            result = intersect(result, findContaining(word, null));
+        }
+        return result;
+    }
+
+    /**
+     * A word occurring in a field implies that each of its tokens is a substring of one of the field's tokens.
+     *
+     * @param fieldName the field to search in, <code>null</code> for all fields
+     */
+    private BitSet findContaining(String word, String fieldName) {
+        BitSet result = null;
+        for (String piece : tokenize(word)) {
+            if (piece.length() < GRAM_LENGTH) {
+                // Too short to be looked up, and contained in most tokens anyway
+                continue;
+            }
+            BitSet containingPiece = new BitSet(nextOrdinal);
+            for (String token : findTokensContaining(piece)) {
+                postingsByToken.get(token).forEach((field, postings) -> {
+                    if ((fieldName == null) || field.getName().equalsIgnoreCase(fieldName)) {
+                        postings.addTo(containingPiece);
+                    }
+                });
+            }
+            result = intersect(result, containingPiece);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the tokens containing the given piece, which is at least a trigram long. A token containing the piece
+     * contains all its trigrams, thus only the tokens of its rarest trigram have to be checked.
+     */
+    private List<String> findTokensContaining(String piece) {
+        Set<String> tokensOfRarestGram = Set.of();
+        for (int start = 0; start + GRAM_LENGTH <= piece.length(); start++) {
+            Set<String> tokens = tokensByGram.getOrDefault(piece.substring(start, start + GRAM_LENGTH), Set.of());
+            if ((start == 0) || (tokens.size() < tokensOfRarestGram.size())) {
+                tokensOfRarestGram = tokens;
+            }
+        }
+        return tokensOfRarestGram.stream().filter(token -> token.contains(piece)).toList();
+    }
+
+    private static BitSet intersect(BitSet first, BitSet second) {
+        if (first == null) {
+            return second;
+        }
+        if (second != null) {
+            first.and(second);
+        }
+        return first;
+    }
+
+    private static BitSet union(BitSet first, BitSet second) {
+        if ((first == null) || (second == null)) {
+            return null;
+        }
+        first.or(second);
+        return first;
+    }
+
+    private synchronized boolean isCandidate(BibEntry entry, BitSet ordinals, long candidatesRevision) {
+        // Unknown entries and entries changed after the candidates have been determined are not covered by the candidates
+        return isChangedSince(entry, candidatesRevision) || ordinals.get(indexedEntries.get(entry).ordinal);
+    }
+
+    /**
+     * The entries which may match a query. Entries changed afterwards are always considered as a candidate.
+     */
+    public static class Candidates {
+
+        private final InvertedFieldIndex index;
+        private final BitSet ordinals;
+        private final long revision;
+
+        private Candidates(InvertedFieldIndex index, BitSet ordinals, long revision) {
+            this.index = index;
+            this.ordinals = ordinals;
+            this.revision = revision;
+        }
+
+        /**
+         * @return <code>false</code> if the entry definitely does not match the query
+         */
+        public boolean mayMatch(BibEntry entry) {
+            return (ordinals == null) || index.isCandidate(entry, ordinals, revision);
+        }
+    }
+
+    private static class IndexedEntry {
+
+        private final int ordinal;
+        private long revision;
+
+        IndexedEntry(int ordinal, long revision) {
+            this.ordinal = ordinal;
+            this.revision = revision;
+        }
+    }
+
+    /**
+     * Growable list of entry ordinals
+     */
+    private static class Postings {
+
+        private int[] ordinals = new int[2];
+        private int size = 0;
+
+        void add(int ordinal) {
+            if ((size > 0) && (ordinals[size - 1] == ordinal)) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(ordinals[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes the candidates of a grammar based search. A <code>null</code> result means that all entries are candidates.
+     */
+    private class CandidateVisitor extends SearchBaseVisitor<BitSet> {
+
+        private final EnumSet<SearchFlags> searchFlags;
+
+        CandidateVisitor(EnumSet<SearchFlags> searchFlags) {
+            this.searchFlags = searchFlags;
+        }
+
+        @Override
+        public BitSet visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public BitSet visitAtomExpression(SearchParser.AtomExpressionContext ctx) {
+            return visit(ctx.comparison());
+        }
+
+        @Override
+        public BitSet visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return findContainingAllWords(right, searchFlags);
+            }
+
+            GrammarBasedSearchRule.ComparisonOperator operator = GrammarBasedSearchRule.ComparisonOperator.build(context.operator.getText());
+            if (operator == GrammarBasedSearchRule.ComparisonOperator.DOES_NOT_CONTAIN) {
+                return null;
+            }
+            String fieldName = StringUtil.stripAccents(context.left.getText());
+            if ("anykeyword".equalsIgnoreCase(fieldName) || InternalField.TYPE_HEADER.getName().equalsIgnoreCase(fieldName)) {
+                return null;
+            }
+            // Both CONTAINS and EXACT require the value to be contained in the field
+            return findContaining(right, "anyfield".equalsIgnoreCase(fieldName) ? null : fieldName);
+        }
+
+        @Override
+        public BitSet visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return null;
+        }
+
+        @Override
+        public BitSet visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public BitSet visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return intersect(visit(ctx.left), visit(ctx.right));
+            } else {
+                return union(visit(ctx.left), visit(ctx.right));
+            }
+        }
+    }
+}
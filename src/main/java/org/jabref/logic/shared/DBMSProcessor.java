@@ -600,6 +600,115 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Sets up the change log, which records the shared ID of every inserted, updated, or removed entry together with a
+     * monotonically increasing revision. It is maintained by the DBMS itself (using triggers), so that clients of older
+     * JabRef versions are covered as well. Needs to be implemented if delta synchronization is supported by the DBMS.
+     *
+     * @return <code>true</code> if the change log is available, else <code>false</code>.
+     */
+    public boolean setUpChangeLog() {
+        return false;
+    }
+
+    /**
+     * Retrieves the latest revision of the change log. Only to be used if {@link #setUpChangeLog()} succeeded.
+     */
+    public long getLatestRevision() throws SQLException {
+        String selectRevisionQuery = "SELECT MAX(" +
+                escape("REVISION") +
+                ") FROM " +
+                escape_Table("CHANGE_LOG");
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectRevisionQuery)) {
+            // MAX returns null on an empty table, which getLong maps to 0
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Retrieves the entries changed after the given revision. Only to be used if {@link #setUpChangeLog()} succeeded.
+     *
+     * @return the changes, or an empty Optional if the change log could not be read
+     */
+    public Optional<SharedChangeSet> getChangesSince(long revision) {
+        String selectChangesQuery = "SELECT C." +
+                escape("REVISION") +
+                ", C." +
+                escape("ENTRY_SHARED_ID") +
+                ", E." +
+                escape("VERSION") +
+                " FROM " +
+                escape_Table("CHANGE_LOG") +
+                " C LEFT OUTER JOIN " +
+                escape_Table("ENTRY") +
+                " E ON C." +
+                escape("ENTRY_SHARED_ID") +
+                " = E." +
+                escape("SHARED_ID") +
+                " WHERE C." +
+                escape("REVISION") +
+                " > ?";
+
+        long latestRevision = revision;
+        Set<Long> revisions = new HashSet<>();
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        Set<Integer> removedSharedIDs = new HashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectChangesQuery)) {
+            preparedStatement.setLong(1, revision);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    long changeRevision = resultSet.getLong("REVISION");
+                    revisions.add(changeRevision);
+                    latestRevision = Math.max(latestRevision, changeRevision);
+                    int sharedID = resultSet.getInt("ENTRY_SHARED_ID");
+                    int version = resultSet.getInt("VERSION");
+                    if (resultSet.wasNull()) {
+                        // no matching entry anymore
+                        removedSharedIDs.add(sharedID);
+                    } else {
+                        sharedIDVersionMapping.put(sharedID, version);
+                    }
+                }
+            }
+            // Read after the changes, so that changes removed from the log meanwhile are noticed
+            long oldestRevision = getOldestRevision();
+            return Optional.of(new SharedChangeSet(latestRevision, oldestRevision, revisions, sharedIDVersionMapping, removedSharedIDs));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Optional.empty();
+        }
+    }
+
+    private long getOldestRevision() throws SQLException {
+        String selectRevisionQuery = "SELECT MIN(" +
+                escape("REVISION") +
+                ") FROM " +
+                escape_Table("CHANGE_LOG");
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectRevisionQuery)) {
+            // MIN returns null on an empty table, which getLong maps to 0
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Removes the changes up to the given revision from the change log. Only to be used if {@link #setUpChangeLog()}
+     * succeeded.
+     */
+    public void removeChangesUpTo(long revision) throws SQLException {
+        String deleteChangesQuery = "DELETE FROM " +
+                escape_Table("CHANGE_LOG") +
+                " WHERE " +
+                escape("REVISION") +
+                " <= ?";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteChangesQuery)) {
+            preparedStatement.setLong(1, revision);
+            preparedStatement.executeUpdate();
+        }
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
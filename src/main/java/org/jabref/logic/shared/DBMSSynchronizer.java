@@ -2,12 +2,16 @@ package org.jabref.logic.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -27,6 +31,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -44,6 +49,19 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    /**
+     * Revisions are assigned when a change is written, but become visible at commit time. Thus, a change with a lower
+     * revision may become visible after a higher one has been seen. A missing revision is waited for this long, before
+     * it is considered to be rolled back.
+     */
+    private static final Duration MISSING_REVISION_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * Number of the latest revisions kept in the change log. Clients which have not seen the revisions removed from the
+     * log synchronize fully.
+     */
+    private static final long CHANGE_LOG_RETENTION = 100_000;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -55,6 +73,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalCitationKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    private boolean changeLogAvailable;
+    // All revisions up to this one have been pulled or are considered to be rolled back
+    private volatile long lastSeenRevision = -1;
+    // The missing revisions after lastSeenRevision and when they were found to be missing
+    private final Map<Long, Instant> missingRevisions = new ConcurrentHashMap<>();
+    private long lastRemovedRevision = 0;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalCitationKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
@@ -156,14 +180,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             throw new IllegalStateException(e);
         }
 
+        changeLogAvailable = dbmsProcessor.setUpChangeLog();
         dbmsProcessor.startNotificationListener(this);
         synchronizeLocalMetaData();
-        synchronizeLocalDatabase();
+        synchronizeLocalDatabaseFully();
     }
 
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * If the shared database provides a change log, only the entries changed since the last synchronization are pulled.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -171,43 +198,150 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        if (changeLogAvailable && (lastSeenRevision >= 0) && synchronizeLocalDatabaseIncrementally()) {
+            return;
+        }
+        synchronizeLocalDatabaseFully();
+    }
+
+    /**
+     * Pulls the entries listed in the change log after the last seen revision.
+     *
+     * @return <code>false</code> if the change log could not be read
+     */
+    private boolean synchronizeLocalDatabaseIncrementally() {
+        Optional<SharedChangeSet> changes = dbmsProcessor.getChangesSince(lastSeenRevision);
+        if (changes.isEmpty() || (changes.get().oldestRevision() > lastSeenRevision + 1)) {
+            // The log cannot be read, or revisions not seen yet have been removed from it
+            return false;
+        }
+        Map<Integer, Integer> changedIDVersionMap = changes.get().sharedIDVersionMapping();
+        Set<Integer> removedIDs = changes.get().removedSharedIDs();
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = new HashMap<>();
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+            if (removedIDs.contains(sharedID)) {
+                entriesToRemove.add(localEntry);
+            } else if (changedIDVersionMap.containsKey(sharedID)) {
+                localEntriesBySharedID.computeIfAbsent(sharedID, id -> new ArrayList<>(1)).add(localEntry);
+            }
+        }
+
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+
+        applySharedChanges(changedIDVersionMap, localEntriesBySharedID);
+        updateLastSeenRevision(lastSeenRevision, changes.get());
+        return true;
+    }
+
+    /**
+     * Compares all shared entries with the local ones.
+     */
+    private void synchronizeLocalDatabaseFully() {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        // Read before the entries, so that changes made in the meantime are pulled again on the next synchronization
+        Optional<SharedChangeSet> changes = changeLogAvailable ? dbmsProcessor.getChangesSince(0) : Optional.empty();
+
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        // index the local entries by their shared ID to avoid comparing every shared entry with every local entry
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.computeIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), id -> new ArrayList<>(1))
+                                  .add(localEntry);
+        }
+
+        applySharedChanges(idVersionMap, localEntriesBySharedID);
+        changes.ifPresentOrElse(
+                // Changes whose revision is missing in the log may still be committed after the entries have been read
+                changeSet -> updateLastSeenRevision(Math.max(0, changeSet.oldestRevision() - 1), changeSet),
+                () -> lastSeenRevision = -1);
+    }
+
+    /**
+     * Advances the last seen revision over the revisions read. It stops at the first missing revision, unless that one
+     * is missing for too long. Then, the log is cut down, if it got too long.
+     *
+     * @param revision the revision the changes were read after
+     */
+    private void updateLastSeenRevision(long revision, SharedChangeSet changes) {
+        Instant now = Instant.now();
+        while (revision < changes.revision()) {
+            long nextRevision = revision + 1;
+            if (!changes.revisions().contains(nextRevision)) {
+                Instant missingSince = missingRevisions.putIfAbsent(nextRevision, now);
+                if ((missingSince == null) || missingSince.plus(MISSING_REVISION_TIMEOUT).isAfter(now)) {
+                    break;
+                }
+                LOGGER.debug("Revision {} is considered to be rolled back", nextRevision);
+            }
+            revision = nextRevision;
+        }
+        long seenRevision = revision;
+        missingRevisions.keySet().removeIf(missingRevision -> missingRevision <= seenRevision);
+        lastSeenRevision = seenRevision;
+
+        removeOldChanges();
+    }
+
+    /**
+     * Removes the changes from the log which are older than the retention. To not delete on every synchronization, only
+     * done if a tenth of the retention has been added since the last removal.
+     */
+    private void removeOldChanges() {
+        long revisionToRemove = lastSeenRevision - CHANGE_LOG_RETENTION;
+        if (revisionToRemove < lastRemovedRevision + (CHANGE_LOG_RETENTION / 10)) {
+            return;
+        }
+        try {
+            dbmsProcessor.removeChangesUpTo(revisionToRemove);
+            lastRemovedRevision = revisionToRemove;
+        } catch (SQLException e) {
+            LOGGER.warn("Could not remove old changes from the change log", e);
+        }
+    }
+
+    /**
+     * Inserts the shared entries not present locally and updates the outdated local entries.
+     *
+     * @param idVersionMap           shared IDs and versions of the shared entries to consider
+     * @param localEntriesBySharedID the local entries having one of these shared IDs
+     */
+    private void applySharedChanges(Map<Integer, Integer> idVersionMap, Map<Integer, List<BibEntry>> localEntriesBySharedID) {
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
+        // compare versions to determine the local entries to update
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            // fetch all outdated entries at once instead of one query per entry
+            for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+                int sharedVersion = sharedEntry.getSharedBibEntryData().getVersion();
+                for (BibEntry localEntry : localEntriesBySharedID.getOrDefault(sharedEntry.getSharedBibEntryData().getSharedID(), List.of())) {
+                    if (sharedVersion > localEntry.getSharedBibEntryData().getVersion()) {
+                        updateLocalEntry(localEntry, sharedEntry);
                     }
                 }
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
-            }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
@@ -216,6 +350,24 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Applies the type and the fields of the shared entry to the local entry. Unchanged fields do not cause a change
+     * event (see {@link BibEntry#setField(Field, String, EntriesEventSource)}).
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+
+        Map<Field, String> sharedFields = sharedEntry.getFieldMap();
+        // copy remote values to local entry
+        sharedFields.forEach((field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED));
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedFields.containsKey(field))
+                  .forEach(field -> localEntry.clearField(field, EntriesEventSource.SHARED));
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -319,6 +471,20 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Pulls the changes announced by a notification. The entries are only pulled if the announced revision has not been
+     * pulled already. The meta data is always pulled, as changes of the meta data are not recorded in the change log.
+     *
+     * @param revision the latest revision of the change log at the time of the notification
+     */
+    public void pullChanges(long revision) {
+        if (changeLogAvailable && (revision <= lastSeenRevision)) {
+            synchronizeLocalMetaData();
+            return;
+        }
+        pullChanges();
+    }
+
     /**
      * Synchronizes local BibEntries only if last entry changes still remain
      */
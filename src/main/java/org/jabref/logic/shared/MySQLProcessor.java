@@ -1,7 +1,10 @@
 package org.jabref.logic.shared;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.jabref.model.metadata.MetaData;
 
@@ -69,6 +72,41 @@ public class MySQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    public boolean setUpChangeLog() {
+        try {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE IF NOT EXISTS `JABREF_CHANGE_LOG` (" +
+                            "`REVISION` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                            "`ENTRY_SHARED_ID` INT(11) NOT NULL)");
+
+            // CREATE TRIGGER IF NOT EXISTS is not supported by all MySQL versions
+            Set<String> existingTriggers = new HashSet<>();
+            try (ResultSet resultSet = connection.createStatement().executeQuery(
+                    "SELECT `TRIGGER_NAME` FROM `information_schema`.`TRIGGERS` WHERE `TRIGGER_SCHEMA` = DATABASE()")) {
+                while (resultSet.next()) {
+                    existingTriggers.add(resultSet.getString("TRIGGER_NAME"));
+                }
+            }
+            createChangeLogTrigger(existingTriggers, "JABREF_ENTRY_INSERTED", "INSERT", "NEW");
+            createChangeLogTrigger(existingTriggers, "JABREF_ENTRY_UPDATED", "UPDATE", "NEW");
+            createChangeLogTrigger(existingTriggers, "JABREF_ENTRY_DELETED", "DELETE", "OLD");
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up the change log. Falling back to full synchronization.", e);
+            return false;
+        }
+    }
+
+    private void createChangeLogTrigger(Set<String> existingTriggers, String name, String operation, String row) throws SQLException {
+        if (existingTriggers.contains(name)) {
+            return;
+        }
+        connection.createStatement().executeUpdate(
+                "CREATE TRIGGER " + escape(name) + " AFTER " + operation + " ON `JABREF_ENTRY` FOR EACH ROW " +
+                        "INSERT INTO `JABREF_CHANGE_LOG`(`ENTRY_SHARED_ID`) VALUES (" + row + ".`SHARED_ID`)");
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
@@ -123,6 +123,43 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    public boolean setUpChangeLog() {
+        try {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE IF NOT EXISTS " + escape_Table("CHANGE_LOG") + " (" +
+                            "\"REVISION\" BIGSERIAL PRIMARY KEY, " +
+                            "\"ENTRY_SHARED_ID\" INTEGER NOT NULL)");
+
+            connection.createStatement().executeUpdate(
+                    "CREATE OR REPLACE FUNCTION jabref.\"LOG_ENTRY_CHANGE\"() RETURNS TRIGGER AS $$ " +
+                            "BEGIN " +
+                            "IF (TG_OP = 'DELETE') THEN " +
+                            "INSERT INTO " + escape_Table("CHANGE_LOG") + "(\"ENTRY_SHARED_ID\") VALUES (OLD.\"SHARED_ID\"); " +
+                            "RETURN OLD; " +
+                            "END IF; " +
+                            "INSERT INTO " + escape_Table("CHANGE_LOG") + "(\"ENTRY_SHARED_ID\") VALUES (NEW.\"SHARED_ID\"); " +
+                            "RETURN NEW; " +
+                            "END; $$ LANGUAGE plpgsql");
+
+            // The trigger is only created if it is missing. Dropping and recreating it would lose the changes of other
+            // clients in between. The block runs as one statement, so a client creating the trigger concurrently is fine.
+            connection.createStatement().execute(
+                    "DO $$ BEGIN " +
+                            "IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'ENTRY_CHANGE_LOG' " +
+                            "AND tgrelid = '" + escape_Table("ENTRY") + "'::regclass) THEN " +
+                            "CREATE TRIGGER \"ENTRY_CHANGE_LOG\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                            " FOR EACH ROW EXECUTE PROCEDURE jabref.\"LOG_ENTRY_CHANGE\"(); " +
+                            "END IF; " +
+                            "EXCEPTION WHEN duplicate_object THEN NULL; " +
+                            "END $$");
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up the change log. Falling back to full synchronization.", e);
+            return false;
+        }
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
@@ -164,10 +201,20 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * The payload consists of the id of this processor and the latest revision of the change log (if available), separated
+     * by {@link PostgresSQLNotificationListener#PAYLOAD_SEPARATOR}.
+     */
     @Override
     public void notifyClients() {
+        String payload = PROCESSOR_ID;
+        try {
+            payload += PostgresSQLNotificationListener.PAYLOAD_SEPARATOR + getLatestRevision();
+        } catch (SQLException e) {
+            LOGGER.debug("No change log available, notifying without revision", e);
+        }
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
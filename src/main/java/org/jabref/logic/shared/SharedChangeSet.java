@@ -0,0 +1,20 @@
+package org.jabref.logic.shared;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The entries changed on the shared database since a given revision of the change log.
+ *
+ * @param revision               the latest revision of the change log
+ * @param oldestRevision         the oldest revision still in the change log, 0 if the change log is empty
+ * @param revisions              the revisions read, revisions not committed yet are missing
+ * @param sharedIDVersionMapping the current versions of the inserted or updated entries
+ * @param removedSharedIDs       the shared IDs of the removed entries
+ */
+public record SharedChangeSet(long revision,
+                              long oldestRevision,
+                              Set<Long> revisions,
+                              Map<Integer, Integer> sharedIDVersionMapping,
+                              Set<Integer> removedSharedIDs) {
+}
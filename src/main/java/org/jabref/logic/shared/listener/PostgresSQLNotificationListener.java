@@ -15,6 +15,8 @@ import org.slf4j.LoggerFactory;
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
+    public static final String PAYLOAD_SEPARATOR = ";";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
     private final DBMSSynchronizer dbmsSynchronizer;
@@ -36,9 +38,7 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        handleNotification(notification.getParameter());
                     }
                 }
 
@@ -50,6 +50,26 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * The payload is sent by {@link org.jabref.logic.shared.PostgreSQLProcessor#notifyClients()}
+     */
+    private void handleNotification(String payload) {
+        String[] parts = payload.split(PAYLOAD_SEPARATOR, 2);
+        if (parts[0].equals(DBMSProcessor.PROCESSOR_ID)) {
+            // we sent that notification ourselves
+            return;
+        }
+        if (parts.length == 2) {
+            try {
+                dbmsSynchronizer.pullChanges(Long.parseLong(parts[1]));
+                return;
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Invalid revision in notification payload {}", payload, e);
+            }
+        }
+        dbmsSynchronizer.pullChanges();
+    }
+
     public void stop() {
         stop = true;
     }
@@ -10,7 +10,13 @@ public enum BackupFileType implements FileType {
 
     // Used when writing the .bib file. See {@link org.jabref.logic.exporter.AtomicFileWriter}
     // Used for copying the .bib away before overwriting on save.
-    SAVE("AutoSaveFile", "sav");
+    SAVE("AutoSaveFile", "sav"),
+
+    // Binary snapshot of the parsed library. See {@link org.jabref.logic.importer.fileformat.BibtexImporter}
+    SNAPSHOT("Snapshot", "snapshot"),
+
+    // Entries changed since the backup was written. See {@link org.jabref.gui.autosaveandbackup.BackupManager}
+    JOURNAL("Journal", "journal");
 
     private final List<String> extensions;
     private final String name;
@@ -79,6 +79,7 @@ public class BackupFileUtil {
             mostRecentFile = Files.list(backupDir)
                                   // just list the .sav belonging to the given targetFile
                                   .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                  .filter(p -> p.getFileName().toString().endsWith(extension))
                                   .sorted()
                                   .reduce((first, second) -> second);
         } catch (IOException e) {
@@ -88,6 +89,22 @@ public class BackupFileUtil {
         return mostRecentFile;
     }
 
+    /**
+     * Determines the path of the file of the given type which is kept for the target file (in contrast to backup files,
+     * there is at most one such file per target file). Returns empty if the backup directory does not exist and
+     * cannot be created.
+     */
+    public static Optional<Path> getPathForSingleFileAndCreateDirectory(Path targetFile, BackupFileType fileType, Path backupDir) {
+        try {
+            Files.createDirectories(backupDir);
+        } catch (IOException e) {
+            LOGGER.warn("Could not create directory {}", backupDir, e);
+            return Optional.empty();
+        }
+        String fileName = getUniqueFilePrefix(targetFile) + "--" + targetFile.getFileName() + "." + fileType.getExtensions().get(0);
+        return Optional.of(backupDir.resolve(fileName));
+    }
+
     /**
      * <p>
      * Determines a unique file prefix.
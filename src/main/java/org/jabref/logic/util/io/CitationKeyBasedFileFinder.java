@@ -1,38 +1,40 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.TreeSet;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 class CitationKeyBasedFileFinder implements FileFinder {
 
     private final boolean exactKeyOnly;
+    private final DirectoryIndexService directoryIndexService;
 
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, new DirectoryIndexService(new DummyFileUpdateMonitor()));
+    }
+
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, DirectoryIndexService directoryIndexService) {
         this.exactKeyOnly = exactKeyOnly;
+        this.directoryIndexService = directoryIndexService;
     }
 
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
         Objects.requireNonNull(directories);
         Objects.requireNonNull(entry);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
 
         Optional<String> citeKeyOptional = entry.getCitationKey();
         if (StringUtil.isBlank(citeKeyOptional)) {
@@ -40,28 +42,32 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         String citeKey = citeKeyOptional.get();
 
-        List<Path> result = new ArrayList<>();
-
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
-
-        // Now look for keys
-        for (Path file : filesWithExtension) {
-            String name = file.getFileName().toString();
-            String nameWithoutExtension = FileUtil.getBaseName(name);
+        // Sorted and without duplicates, as directories may contain each other
+        Set<Path> result = new TreeSet<>();
+        for (Path directory : directories) {
+            if (!Files.exists(directory)) {
+                continue;
+            }
+            DirectoryIndex index = directoryIndexService.getIndex(directory);
 
             // First, look for exact matches
-            if (nameWithoutExtension.equals(citeKey)) {
-                result.add(file);
-                continue;
+            List<Path> candidates = new ArrayList<>(index.findByBaseName(citeKey));
+            // If non-exact matches are allowed, look for files starting with the key
+            if (!exactKeyOnly) {
+                candidates.addAll(index.findByNamePrefix(FileNameCleaner.cleanFileName(citeKey)));
             }
-            // If we get here, we did not find any exact matches. If non-exact matches are allowed, try to find one
-            if (!exactKeyOnly && matches(name, citeKey)) {
-                result.add(file);
+
+            for (Path file : candidates) {
+                String name = file.getFileName().toString();
+                boolean isMatch = FileUtil.getBaseName(name).equals(citeKey) || (!exactKeyOnly && matches(name, citeKey));
+                // The index may list files deleted in the meantime
+                if (isMatch && extensions.contains(FileUtil.getFileExtension(name).orElse("")) && Files.exists(file)) {
+                    result.add(file);
+                }
             }
         }
 
-        return result.stream().sorted().collect(Collectors.toList());
+        return new ArrayList<>(result);
     }
 
     private boolean matches(String filename, String citeKey) {
@@ -74,26 +80,4 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse(""));
-
-        Set<Path> result = new HashSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
@@ -0,0 +1,202 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The files of a directory and all its subdirectories, read once and looked up by name.
+ * <p>
+ * Finding the files of an entry by walking the directory tree again and again is slow for large trees, especially on
+ * network shares. The index walks the tree once, the subdirectories in parallel, and answers the lookups of the
+ * {@link FileFinder}s from memory. The index is a snapshot, see {@link DirectoryIndexService} for keeping it up to date.
+ */
+public class DirectoryIndex {
+
+    private record DirectoryContent(FileTime lastModified, List<Path> files, List<Path> subdirectories) {
+    }
+
+    private final Path directory;
+    private final Map<Path, DirectoryContent> contents;
+    private final Map<String, List<Path>> filesByBaseName = new HashMap<>();
+    private final Map<String, List<Path>> filesByExtension = new HashMap<>();
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+
+    private DirectoryIndex(Path directory, Map<Path, DirectoryContent> contents) {
+        this.directory = directory;
+        this.contents = contents;
+        for (DirectoryContent content : contents.values()) {
+            for (Path file : content.files()) {
+                String name = file.getFileName().toString();
+                filesByName.computeIfAbsent(name, key -> new ArrayList<>()).add(file);
+                filesByBaseName.computeIfAbsent(FileUtil.getBaseName(name), key -> new ArrayList<>()).add(file);
+                filesByExtension.computeIfAbsent(FileUtil.getFileExtension(name).orElse(""), key -> new ArrayList<>()).add(file);
+            }
+        }
+    }
+
+    /**
+     * Reads the files of the given directory and all its subdirectories. Symbolic links are followed.
+     *
+     * @throws IOException if a directory cannot be read
+     */
+    public static DirectoryIndex of(Path directory) throws IOException {
+        Map<Path, DirectoryContent> contents = new ConcurrentHashMap<>();
+        Set<Object> ancestors = new HashSet<>();
+        BasicFileAttributes directoryAttributes = Files.readAttributes(directory, BasicFileAttributes.class);
+        if (directoryAttributes.fileKey() != null) {
+            ancestors.add(directoryAttributes.fileKey());
+        }
+        try {
+            readDirectory(directory, directoryAttributes, ancestors, contents);
+        } catch (UncheckedIOException e) {
+            throw new IOException("Problem in finding files", e.getCause());
+        }
+        return new DirectoryIndex(directory, contents);
+    }
+
+    /**
+     * @param attributes the attributes of the directory, read before its content
+     * @param ancestors the file keys of the directory and its parents, to detect cycles created by symbolic links
+     */
+    private static void readDirectory(Path directory, BasicFileAttributes attributes, Set<Object> ancestors, Map<Path, DirectoryContent> contents) {
+        List<Path> files = new ArrayList<>();
+        List<Path> subdirectories = new ArrayList<>();
+        Map<Path, BasicFileAttributes> subdirectoryAttributes = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                BasicFileAttributes pathAttributes;
+                try {
+                    pathAttributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // A broken symbolic link, which is listed as a file as by Files.find
+                    files.add(path);
+                    continue;
+                }
+                if (!pathAttributes.isDirectory()) {
+                    files.add(path);
+                } else if ((pathAttributes.fileKey() == null) || !ancestors.contains(pathAttributes.fileKey())) {
+                    subdirectories.add(path);
+                    subdirectoryAttributes.put(path, pathAttributes);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        contents.put(directory, new DirectoryContent(attributes.lastModifiedTime(), files, subdirectories));
+
+        subdirectories.parallelStream().forEach(subdirectory -> {
+            BasicFileAttributes attributesOfSubdirectory = subdirectoryAttributes.get(subdirectory);
+            Set<Object> subdirectoryAncestors = new HashSet<>(ancestors);
+            if (attributesOfSubdirectory.fileKey() != null) {
+                subdirectoryAncestors.add(attributesOfSubdirectory.fileKey());
+            }
+            readDirectory(subdirectory, attributesOfSubdirectory, subdirectoryAncestors, contents);
+        });
+    }
+
+    /**
+     * Returns the directory this index was created for.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the given directory and all its subdirectories.
+     */
+    public Collection<Path> getDirectories() {
+        return contents.keySet();
+    }
+
+    /**
+     * Checks whether files or subdirectories were added to, removed from or renamed in one of the directories since
+     * they were read, by comparing the modification times of the directories. Changes of the content of files are not
+     * detected.
+     */
+    public boolean isModified() {
+        for (Map.Entry<Path, DirectoryContent> content : contents.entrySet()) {
+            try {
+                if (!Files.getLastModifiedTime(content.getKey()).equals(content.getValue().lastModified())) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // The directory was removed
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the given directory is the indexed one or one of its subdirectories.
+     */
+    public boolean contains(Path directory) {
+        return contents.containsKey(directory);
+    }
+
+    /**
+     * Returns the files directly contained in the given directory.
+     */
+    public List<Path> getFiles(Path directory) {
+        DirectoryContent content = contents.get(directory);
+        return content == null ? List.of() : content.files();
+    }
+
+    /**
+     * Returns the subdirectories directly contained in the given directory.
+     */
+    public List<Path> getSubdirectories(Path directory) {
+        DirectoryContent content = contents.get(directory);
+        return content == null ? List.of() : content.subdirectories();
+    }
+
+    /**
+     * Returns the direct and indirect subdirectories of the given directory, parents before their children.
+     */
+    public List<Path> getAllSubdirectories(Path directory) {
+        List<Path> result = new ArrayList<>();
+        for (Path subdirectory : getSubdirectories(directory)) {
+            result.add(subdirectory);
+            result.addAll(getAllSubdirectories(subdirectory));
+        }
+        return result;
+    }
+
+    /**
+     * Returns all files whose name without extension equals the given one.
+     */
+    public List<Path> findByBaseName(String baseName) {
+        return filesByBaseName.getOrDefault(baseName, List.of());
+    }
+
+    /**
+     * Returns all files with the given extension, e.g., "pdf".
+     */
+    public List<Path> findByExtension(String extension) {
+        return filesByExtension.getOrDefault(extension, List.of());
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix, e.g., a citation key.
+     */
+    public List<Path> findByNamePrefix(String prefix) {
+        List<Path> result = new ArrayList<>();
+        filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(result::addAll);
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares the {@link DirectoryIndex} of each file directory between all lookups.
+ * <p>
+ * If the given monitor is active, the directories of an index are monitored and the index is dropped as soon as one of
+ * them changes, so that the next lookup reads the directory again. Changes made while a directory is read for the first
+ * time may be missed. As the operating system limits the number of monitored directories, at most
+ * {@link #MAXIMUM_MONITORED_DIRECTORIES} directories are monitored. The other indexes, and all indexes if the monitor is
+ * not active, e.g., on the command line, are checked for added or removed files by the modification times of their
+ * directories, at most once per {@link #MODIFICATION_CHECK_INTERVAL}.
+ */
+public class DirectoryIndexService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryIndexService.class);
+
+    private static final int MAXIMUM_MONITORED_DIRECTORIES = 1000;
+    private static final Duration MODIFICATION_CHECK_INTERVAL = Duration.ofSeconds(2);
+
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final Duration modificationCheckInterval;
+    private final Map<Path, MonitoredIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicInteger monitoredDirectoryCount = new AtomicInteger();
+
+    public DirectoryIndexService(FileUpdateMonitor fileUpdateMonitor) {
+        this(fileUpdateMonitor, MODIFICATION_CHECK_INTERVAL);
+    }
+
+    DirectoryIndexService(FileUpdateMonitor fileUpdateMonitor, Duration modificationCheckInterval) {
+        this.fileUpdateMonitor = fileUpdateMonitor;
+        this.modificationCheckInterval = modificationCheckInterval;
+    }
+
+    /**
+     * Returns the index of the given directory. The directory is read if it was not read before or changed since.
+     *
+     * @throws IOException if the directory cannot be read
+     */
+    public DirectoryIndex getIndex(Path directory) throws IOException {
+        MonitoredIndex monitoredIndex = indexes.get(directory);
+        if (monitoredIndex != null) {
+            if (monitoredIndex.isUpToDate()) {
+                return monitoredIndex.index;
+            }
+            monitoredIndex.drop();
+        }
+
+        DirectoryIndex index = DirectoryIndex.of(directory);
+        monitoredIndex = new MonitoredIndex(index);
+        indexes.put(directory, monitoredIndex);
+        if (fileUpdateMonitor.isActive()) {
+            monitoredIndex.startMonitoring();
+        }
+        return index;
+    }
+
+    /**
+     * Drops all indexes, so that the directories are read again on the next lookup.
+     */
+    public void invalidate() {
+        new ArrayList<>(indexes.values()).forEach(MonitoredIndex::drop);
+    }
+
+    private class MonitoredIndex implements FileUpdateListener {
+
+        private final DirectoryIndex index;
+        private final List<Path> monitoredDirectories = new ArrayList<>();
+        private boolean isMonitored = false;
+        private long lastModificationCheck = System.nanoTime();
+
+        MonitoredIndex(DirectoryIndex index) {
+            this.index = index;
+        }
+
+        /**
+         * Monitors the directories of the index. If there are too many directories or a directory cannot be monitored,
+         * e.g., because the operating system limits the number of monitored directories, the modification times of
+         * the directories are checked instead.
+         */
+        synchronized void startMonitoring() {
+            int directoryCount = index.getDirectories().size();
+            if (monitoredDirectoryCount.addAndGet(directoryCount) > MAXIMUM_MONITORED_DIRECTORIES) {
+                monitoredDirectoryCount.addAndGet(-directoryCount);
+                LOGGER.debug("Not monitoring the {} directories of {}, checking their modification times instead", directoryCount, index.getDirectory());
+                return;
+            }
+            isMonitored = true;
+            for (Path directory : index.getDirectories()) {
+                try {
+                    fileUpdateMonitor.addListenerForDirectory(directory, this);
+                    monitoredDirectories.add(directory);
+                } catch (IOException e) {
+                    LOGGER.info("Could not monitor directory {}, checking the modification times of the directories instead", directory, e);
+                    stopMonitoring();
+                    return;
+                }
+            }
+        }
+
+        private synchronized void stopMonitoring() {
+            if (isMonitored) {
+                monitoredDirectories.forEach(directory -> fileUpdateMonitor.removeListener(directory, this));
+                monitoredDirectories.clear();
+                monitoredDirectoryCount.addAndGet(-index.getDirectories().size());
+                isMonitored = false;
+            }
+        }
+
+        /**
+         * Checks whether the index still lists the files of its directories. Monitored indexes are dropped on a change
+         * and thus always up to date.
+         */
+        synchronized boolean isUpToDate() {
+            if (isMonitored || ((System.nanoTime() - lastModificationCheck) < modificationCheckInterval.toNanos())) {
+                return true;
+            }
+            lastModificationCheck = System.nanoTime();
+            return !index.isModified();
+        }
+
+        void drop() {
+            indexes.remove(index.getDirectory(), this);
+            stopMonitoring();
+        }
+
+        @Override
+        public void fileUpdated() {
+            drop();
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package org.jabref.logic.util.io;
 
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
 public class FileFinders {
     /**
      * Creates a preconfigurated file finder based on the given AutoLink preferences.
      */
     public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
+        return constructFromConfiguration(autoLinkPreferences, new DirectoryIndexService(new DummyFileUpdateMonitor()));
+    }
+
+    /**
+     * Creates a preconfigurated file finder based on the given AutoLink preferences. The files of the searched
+     * directories are looked up by the given service.
+     */
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, DirectoryIndexService directoryIndexService) {
         return switch (autoLinkPreferences.getCitationKeyDependency()) {
             case START ->
-                    new CitationKeyBasedFileFinder(false);
+                    new CitationKeyBasedFileFinder(false, directoryIndexService);
             case EXACT ->
-                    new CitationKeyBasedFileFinder(true);
+                    new CitationKeyBasedFileFinder(true, directoryIndexService);
             case REGEX ->
-                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator());
+                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator(), directoryIndexService);
         };
     }
 }
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -20,6 +21,7 @@ import java.util.stream.Stream;
 import org.jabref.logic.citationkeypattern.BracketedPattern;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 class RegExpBasedFileFinder implements FileFinder {
 
@@ -29,13 +31,23 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final DirectoryIndexService directoryIndexService;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, new DirectoryIndexService(new DummyFileUpdateMonitor()));
+    }
+
+    /**
+     * @param regExp                The expression deciding which names are acceptable.
+     * @param directoryIndexService Provides the files of the directories instead of reading them for each entry.
+     */
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, DirectoryIndexService directoryIndexService) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.directoryIndexService = directoryIndexService;
     }
 
     /**
@@ -124,7 +136,8 @@ class RegExpBasedFileFinder implements FileFinder {
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            Optional<DirectoryIndex> directoryIndex = Files.isDirectory(directory) ? Optional.of(directoryIndexService.getIndex(directory)) : Optional.empty();
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, directoryIndex));
         }
         return res;
     }
@@ -132,8 +145,9 @@ class RegExpBasedFileFinder implements FileFinder {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * Directories covered by the index are looked up in the index, all others are read from the file system.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp, final Optional<DirectoryIndex> directoryIndex) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -173,26 +187,36 @@ class RegExpBasedFileFinder implements FileFinder {
                 actualDirectory = actualDirectory.getParent();
                 continue;
             }
-            if ("*".equals(dirToProcess)) { // Do for all direct subdirs
+            if ("*".equals(dirToProcess) && isIndexed(directoryIndex, actualDirectory)) { // Do for all direct subdirs
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                for (Path subDir : directoryIndex.get().getSubdirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, directoryIndex));
+                }
+            } else if ("*".equals(dirToProcess)) {
                 File[] subDirs = actualDirectory.toFile().listFiles();
                 if (subDirs != null) {
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
                     for (File subDir : subDirs) {
                         if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
+                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp, directoryIndex));
                         }
                     }
                 }
             }
             // Do for all direct and indirect subdirs
-            if ("**".equals(dirToProcess)) {
+            if ("**".equals(dirToProcess) && isIndexed(directoryIndex, actualDirectory)) {
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                for (Path path : directoryIndex.get().getAllSubdirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, directoryIndex));
+                }
+            } else if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
                 final Path rootDirectory = actualDirectory;
                 try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
                     // We only want to transverse directory (and not the current one; this is already done below)
                     for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, directoryIndex));
                     }
                 } catch (UncheckedIOException ioe) {
                     throw ioe.getCause();
@@ -202,6 +226,13 @@ class RegExpBasedFileFinder implements FileFinder {
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        if (isIndexed(directoryIndex, actualDirectory)) {
+            Stream.concat(directoryIndex.get().getFiles(actualDirectory).stream(), directoryIndex.get().getSubdirectories(actualDirectory).stream())
+                  // The index may list files deleted in the meantime
+                  .filter(path -> toMatch.matcher(path.getFileName().toString()).matches() && Files.exists(path))
+                  .forEach(resultFiles::add);
+            return resultFiles;
+        }
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
@@ -212,6 +243,10 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private boolean isIndexed(Optional<DirectoryIndex> directoryIndex, Path directory) {
+        return directoryIndex.isPresent() && directoryIndex.get().contains(directory);
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
@@ -0,0 +1,126 @@
+package org.jabref.logic.util.strings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index over a fixed set of strings to find the ones {@link StringSimilarity#isSimilar(String, String) similar} to a
+ * given string without comparing it to each of them.
+ * <p>
+ * Candidates are determined by the length difference and the q-gram lemma: two strings within an edit distance of
+ * <code>k</code> share at least <code>max(|a|, |b|) - q + 1 - k * q</code> of their q-grams. Only the candidates are
+ * compared using the edit distance, so the result is the same as comparing against all strings.
+ */
+public class StringSimilarityIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_DISTANCE = StringSimilarity.METRIC_THRESHOLD;
+
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    /**
+     * The indexed strings, sorted by the length of their normalized form
+     */
+    private final String[] strings;
+    private final String[] normalizedStrings;
+
+    /**
+     * Maps each q-gram to pairs of ordinal of the string and number of occurrences in that string
+     */
+    private final Map<String, int[]> postings = new HashMap<>();
+
+    public StringSimilarityIndex(Collection<String> strings) {
+        this.strings = strings.stream()
+                              .sorted(Comparator.comparingInt(string -> normalize(string).length()))
+                              .toArray(String[]::new);
+        this.normalizedStrings = Arrays.stream(this.strings)
+                                       .map(StringSimilarityIndex::normalize)
+                                       .toArray(String[]::new);
+
+        Map<String, List<int[]>> postingLists = new HashMap<>();
+        for (int ordinal = 0; ordinal < normalizedStrings.length; ordinal++) {
+            int currentOrdinal = ordinal;
+            countGrams(normalizedStrings[ordinal]).forEach((gram, count) ->
+                    postingLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(new int[] {currentOrdinal, count}));
+        }
+        postingLists.forEach((gram, list) -> {
+            int[] pairs = new int[list.size() * 2];
+            for (int i = 0; i < list.size(); i++) {
+                pairs[2 * i] = list.get(i)[0];
+                pairs[2 * i + 1] = list.get(i)[1];
+            }
+            postings.put(gram, pairs);
+        });
+    }
+
+    /**
+     * Returns all indexed strings similar to the given one, ordered by their length.
+     */
+    public List<String> findSimilar(String string) {
+        String normalized = normalize(string);
+        int length = normalized.length();
+
+        int from = firstWithLengthAtLeast(length - MAX_DISTANCE);
+        int to = firstWithLengthAtLeast(length + MAX_DISTANCE + 1);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] sharedGrams = new int[to - from];
+        countGrams(normalized).forEach((gram, count) -> {
+            int[] pairs = postings.get(gram);
+            if (pairs == null) {
+                return;
+            }
+            for (int i = 0; i < pairs.length; i += 2) {
+                int ordinal = pairs[i];
+                if ((ordinal >= from) && (ordinal < to)) {
+                    sharedGrams[ordinal - from] += Math.min(count, pairs[i + 1]);
+                }
+            }
+        });
+
+        List<String> result = new ArrayList<>();
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            int maxLength = Math.max(length, normalizedStrings[ordinal].length());
+            int requiredSharedGrams = maxLength - GRAM_LENGTH + 1 - MAX_DISTANCE * GRAM_LENGTH;
+            if ((sharedGrams[ordinal - from] >= requiredSharedGrams) && similarity.isSimilar(normalized, normalizedStrings[ordinal])) {
+                result.add(strings[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    private int firstWithLengthAtLeast(int length) {
+        int low = 0;
+        int high = normalizedStrings.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (normalizedStrings[middle].length() < length) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Map<String, Integer> countGrams(String string) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i + GRAM_LENGTH <= string.length(); i++) {
+            counts.merge(string.substring(i, i + GRAM_LENGTH), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static String normalize(String string) {
+        // Same normalization as StringSimilarity#editDistanceIgnoreCase
+        return string.toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +34,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -54,6 +57,13 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    /**
+     * Index from citation key to the entries carrying that key. Kept in sync by insertion, removal and key changes.
+     * The set of indexed entries is tracked by identity, because {@link BibEntry#equals(Object)} compares the content.
+     */
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+    private final Set<BibEntry> indexedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
@@ -149,7 +159,11 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        List<BibEntry> candidates = entriesByCitationKey.get(key);
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        return inDatabaseOrder(candidates).stream().findFirst();
     }
 
     /**
@@ -159,16 +173,57 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        List<BibEntry> candidates = entriesByCitationKey.get(key);
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+        return inDatabaseOrder(candidates);
+    }
 
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+    /**
+     * The index keeps entries in insertion order, which may differ from the database order after key changes.
+     * Only keys shared by several entries need to be reordered.
+     */
+    private List<BibEntry> inDatabaseOrder(List<BibEntry> candidates) {
+        if (candidates.size() <= 1) {
+            return new ArrayList<>(candidates);
+        }
+        Set<BibEntry> lookup = Collections.newSetFromMap(new IdentityHashMap<>());
+        lookup.addAll(candidates);
+        return entries.stream().filter(lookup::contains).collect(Collectors.toList());
+    }
+
+    private void addToCitationKeyIndex(BibEntry entry) {
+        indexedEntries.add(entry);
+        entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
+    }
+
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> candidates = entriesByCitationKey.get(key);
+        if (candidates == null) {
+            return;
+        }
+        candidates.removeIf(candidate -> candidate == entry);
+        if (candidates.isEmpty()) {
+            entriesByCitationKey.remove(key);
+        }
+    }
+
+    private synchronized void updateCitationKeyIndex(BibEntry entry, String oldKey, String newKey) {
+        // Removed entries still relay their events, thus we need to ignore entries not (longer) part of this database
+        if (!indexedEntries.contains(entry)) {
+            return;
+        }
+        if (oldKey != null) {
+            removeFromCitationKeyIndex(oldKey, entry);
+        }
+        if (newKey != null) {
+            addToCitationKeyIndex(newKey, entry);
         }
-        return result;
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -204,6 +259,7 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
+        newEntries.forEach(this::addToCitationKeyIndex);
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -234,11 +290,22 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
+        for (BibEntry entry : removedEntries) {
+            indexedEntries.remove(entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
+        }
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -571,6 +638,10 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            // Update the index before relaying, so that listeners (such as the KeyChangeListener) see the new key
+            updateCitationKeyIndex(event.getBibEntry(), event.getOldValue(), event.getNewValue());
+        }
         eventBus.post(event);
     }
 
@@ -607,11 +678,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> candidates = entriesByCitationKey.get(key);
+        return candidates == null ? 0 : candidates.size();
     }
 
     /**
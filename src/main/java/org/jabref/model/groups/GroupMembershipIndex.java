@@ -0,0 +1,365 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.types.EntryType;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the entries contained in the groups of a database.
+ * <p>
+ * Each entry of the database is numbered, and the entries contained in a group are stored as a bit set of these
+ * numbers. The bit set of a group is computed on first access and then kept up to date by the events of the database:
+ * a changed field is only checked against the groups depending on it. The hierarchical context of the groups is taken
+ * into account by combining the bit sets, in the same way as {@link GroupTreeNode#getSearchMatcher()} combines the
+ * groups.
+ * <p>
+ * Groups are mutable, thus each bit set stores a copy of the group it was computed for and is only reused if the group
+ * is still equal to it. A {@link TexGroup} depends on a file and is therefore never cached.
+ * <p>
+ * Bit sets computed by {@link #computeMembers(Collection)} are computed in parallel and without blocking the updates of
+ * the index, so that editing is not blocked by counting the entries of groups in the background.
+ */
+public class GroupMembershipIndex {
+
+    private static final Map<BibDatabase, GroupMembershipIndex> INDEXES = new MapMaker().weakKeys().makeMap();
+
+    // Entries are equal if their content is, thus we need to compare by identity
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+    // Indexed entry by ordinal, null if the ordinal is free
+    private final List<IndexedEntry> entries = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    // Weak keys are compared by identity
+    private final Map<AbstractGroup, GroupMembers> members = new MapMaker().weakKeys().makeMap();
+    // Incremented whenever a cached bit set changes
+    private long version;
+    private final List<Consumer<Optional<Field>>> changeListeners = new CopyOnWriteArrayList<>();
+
+    private GroupMembershipIndex() {
+    }
+
+    /**
+     * Returns the index of the given database. The index is created on first access and then kept up to date by the
+     * events of the database.
+     */
+    public static GroupMembershipIndex forDatabase(BibDatabase database) {
+        return INDEXES.computeIfAbsent(database, db -> {
+            GroupMembershipIndex index = new GroupMembershipIndex();
+            // Register first to not miss entries added meanwhile, adding an entry twice has no effect
+            db.registerListener(index);
+            synchronized (index) {
+                db.getEntries().forEach(index::add);
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Determines the entries matched by the given group node while taking the hierarchical information into account,
+     * see {@link GroupTreeNode#findMatches(BibDatabase)}.
+     */
+    public synchronized List<BibEntry> findMatches(GroupTreeNode node) {
+        return getMatches(node).stream()
+                               .mapToObj(ordinal -> entries.get(ordinal).entry())
+                               .toList();
+    }
+
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        return getMatches(node).cardinality();
+    }
+
+    /**
+     * Returns whether a change of one of the given fields may change the entries matched by the given group node
+     */
+    public boolean dependsOnAny(GroupTreeNode node, Collection<Field> fields) {
+        return getGroups(node).stream()
+                              .anyMatch(group -> fields.stream().anyMatch(field -> dependsOn(group, field)));
+    }
+
+    /**
+     * Registers a listener which is called after the index was updated. It gets the changed field, or an empty optional
+     * if entries were added or removed.
+     */
+    public void addChangeListener(Consumer<Optional<Field>> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Computes the missing bit sets of the groups involved in the given group nodes in parallel. Changes of the entries
+     * are not blocked meanwhile, but caught up with afterwards.
+     */
+    public void computeMembers(Collection<GroupTreeNode> nodes) {
+        Set<AbstractGroup> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodes.forEach(node -> groups.addAll(getGroups(node)));
+        groups.parallelStream().forEach(this::computeMembers);
+    }
+
+    private void computeMembers(AbstractGroup group) {
+        List<IndexedEntry> indexedEntries;
+        synchronized (this) {
+            GroupMembers cachedMembers = members.get(group);
+            if ((group instanceof TexGroup) || ((cachedMembers != null) && cachedMembers.group().equals(group))) {
+                return;
+            }
+            indexedEntries = new ArrayList<>(entries);
+        }
+
+        // Take the copy before computing, so that a concurrent change of the group leads to a mismatch later on
+        AbstractGroup groupCopy = group.deepCopy();
+        BitSet groupMembers = new BitSet(indexedEntries.size());
+        for (int ordinal = 0; ordinal < indexedEntries.size(); ordinal++) {
+            IndexedEntry indexedEntry = indexedEntries.get(ordinal);
+            if ((indexedEntry != null) && group.contains(indexedEntry.entry())) {
+                groupMembers.set(ordinal);
+            }
+        }
+
+        synchronized (this) {
+            // Each change of an entry replaces its indexed entry, thus the entries changed meanwhile are the ones not identical to the copy
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                IndexedEntry indexedEntry = entries.get(ordinal);
+                if ((ordinal >= indexedEntries.size()) || (indexedEntry != indexedEntries.get(ordinal))) {
+                    groupMembers.set(ordinal, (indexedEntry != null) && group.contains(indexedEntry.entry()));
+                }
+            }
+            members.put(group, new GroupMembers(groupCopy, groupMembers));
+            version++;
+        }
+    }
+
+    /**
+     * Returns the groups the entries matched by the given node depend on, see {@link #getMatches(GroupTreeNode)}
+     */
+    private static Set<AbstractGroup> getGroups(GroupTreeNode node) {
+        Set<AbstractGroup> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectGroups(node, node.getGroup().getHierarchicalContext(), groups);
+        return groups;
+    }
+
+    private static void collectGroups(GroupTreeNode node, GroupHierarchyType originalContext, Set<AbstractGroup> groups) {
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        groups.add(node.getGroup());
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                collectGroups(child, originalContext, groups);
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            collectGroups(node.getParent().get(), originalContext, groups);
+        }
+    }
+
+    /**
+     * Creates a matcher for the entries matched by all (or any) of the given group nodes.
+     * <p>
+     * The matcher uses the bit sets of the groups as long as the entry is indexed as it currently is. Entries are
+     * reported as changed before the index learns of the change, so a changed entry is matched directly against the
+     * groups until then.
+     *
+     * @param requireAll whether an entry has to be matched by all nodes or by at least one
+     */
+    public Predicate<BibEntry> createMatcher(List<GroupTreeNode> nodes, boolean requireAll) {
+        List<GroupTreeNode> groupNodes = List.copyOf(nodes);
+        return new Predicate<>() {
+            private long computedForVersion = -1;
+            private BitSet matches;
+
+            @Override
+            public boolean test(BibEntry entry) {
+                synchronized (GroupMembershipIndex.this) {
+                    Integer ordinal = ordinals.get(entry);
+                    if ((ordinal != null) && entries.get(ordinal).isContentOf(entry)) {
+                        if ((matches == null) || (computedForVersion != version)) {
+                            matches = combine(groupNodes, requireAll);
+                            // Computing the bit sets may have changed the version
+                            computedForVersion = version;
+                        }
+                        return matches.get(ordinal);
+                    }
+                }
+                return requireAll
+                        ? groupNodes.stream().allMatch(node -> node.matches(entry))
+                        : groupNodes.stream().anyMatch(node -> node.matches(entry));
+            }
+        };
+    }
+
+    private BitSet combine(List<GroupTreeNode> nodes, boolean requireAll) {
+        BitSet matches = null;
+        for (GroupTreeNode node : nodes) {
+            BitSet nodeMatches = getMatches(node);
+            if (matches == null) {
+                matches = nodeMatches;
+            } else if (requireAll) {
+                matches.and(nodeMatches);
+            } else {
+                matches.or(nodeMatches);
+            }
+        }
+        return matches == null ? new BitSet() : matches;
+    }
+
+    /**
+     * Returns a new bit set of the entries matched by the given node, see {@link GroupTreeNode#getSearchMatcher()}
+     */
+    private BitSet getMatches(GroupTreeNode node) {
+        return getMatches(node, node.getGroup().getHierarchicalContext());
+    }
+
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        GroupHierarchyType context = group.getHierarchicalContext();
+        BitSet matches = (BitSet) getMembers(group).clone();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            matches.and(getMatches(node.getParent().get(), originalContext));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the bit set of the entries contained in the group itself, which must not be modified
+     */
+    private BitSet getMembers(AbstractGroup group) {
+        GroupMembers cachedMembers = members.get(group);
+        if ((cachedMembers != null) && cachedMembers.group().equals(group)) {
+            return cachedMembers.entries();
+        }
+
+        BitSet groupMembers = new BitSet(entries.size());
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            IndexedEntry indexedEntry = entries.get(ordinal);
+            if ((indexedEntry != null) && group.contains(indexedEntry.entry())) {
+                groupMembers.set(ordinal);
+            }
+        }
+        if (!(group instanceof TexGroup)) {
+            members.put(group, new GroupMembers(group.deepCopy(), groupMembers));
+            version++;
+        }
+        return groupMembers;
+    }
+
+    /**
+     * Returns whether a change of the given field may change the entries contained in the group
+     */
+    private static boolean dependsOn(AbstractGroup group, Field field) {
+        if (group instanceof AllEntriesGroup) {
+            return false;
+        }
+        if (group instanceof KeywordGroup keywordGroup) {
+            return keywordGroup.getSearchField().equals(field);
+        }
+        return true;
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        synchronized (this) {
+            event.getBibEntries().forEach(this::add);
+        }
+        changeListeners.forEach(listener -> listener.accept(Optional.empty()));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        synchronized (this) {
+            event.getBibEntries().forEach(this::remove);
+        }
+        changeListeners.forEach(listener -> listener.accept(Optional.empty()));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        synchronized (this) {
+            Integer ordinal = ordinals.get(entry);
+            if (ordinal == null) {
+                return;
+            }
+            entries.set(ordinal, IndexedEntry.of(entry));
+            for (Map.Entry<AbstractGroup, GroupMembers> groupMembers : members.entrySet()) {
+                if (dependsOn(groupMembers.getKey(), event.getField())) {
+                    groupMembers.getValue().entries().set(ordinal, groupMembers.getKey().contains(entry));
+                }
+            }
+            version++;
+        }
+        changeListeners.forEach(listener -> listener.accept(Optional.of(event.getField())));
+    }
+
+    private void add(BibEntry entry) {
+        if (ordinals.containsKey(entry)) {
+            return;
+        }
+        int ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.nextSetBit(0);
+        if (ordinal == entries.size()) {
+            entries.add(IndexedEntry.of(entry));
+        } else {
+            freeOrdinals.clear(ordinal);
+            entries.set(ordinal, IndexedEntry.of(entry));
+        }
+        ordinals.put(entry, ordinal);
+        for (Map.Entry<AbstractGroup, GroupMembers> groupMembers : members.entrySet()) {
+            groupMembers.getValue().entries().set(ordinal, groupMembers.getKey().contains(entry));
+        }
+        version++;
+    }
+
+    private void remove(BibEntry entry) {
+        Integer ordinal = ordinals.remove(entry);
+        if (ordinal == null) {
+            return;
+        }
+        entries.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        for (GroupMembers groupMembers : members.values()) {
+            groupMembers.entries().clear(ordinal);
+        }
+        version++;
+    }
+
+    /**
+     * An entry together with the type and fields it had when it was indexed
+     */
+    private record IndexedEntry(BibEntry entry, EntryType type, Map<Field, String> fields) {
+
+        static IndexedEntry of(BibEntry entry) {
+            return new IndexedEntry(entry, entry.getType(), Map.copyOf(entry.getFieldMap()));
+        }
+
+        boolean isContentOf(BibEntry otherEntry) {
+            return (entry == otherEntry) && type.equals(otherEntry.getType()) && Objects.equals(fields, otherEntry.getFieldMap());
+        }
+    }
+
+    /**
+     * The entries contained in a group, together with a copy of the group they were computed for
+     */
+    private record GroupMembers(AbstractGroup group, BitSet entries) {
+    }
+}
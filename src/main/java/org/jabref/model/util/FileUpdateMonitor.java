@@ -12,10 +12,20 @@ public interface FileUpdateMonitor {
      */
     void addListenerForFile(Path file, FileUpdateListener listener) throws IOException;
 
+    /**
+     * Add a new directory to monitor. The listener is notified when a file or subdirectory of the directory is created,
+     * modified or deleted, and when changes may have been missed. Subdirectories are not monitored. The directory is
+     * not monitored anymore as soon as all its listeners are removed.
+     *
+     * @param directory The directory to monitor.
+     * @throws IOException if the directory does not exist.
+     */
+    void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException;
+
     /**
      * Removes a listener from the monitor.
      *
-     * @param path The path to remove.
+     * @param path The file or directory to remove.
      */
     void removeListener(Path path, FileUpdateListener listener);
 
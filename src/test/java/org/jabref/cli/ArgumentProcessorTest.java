@@ -1,22 +1,31 @@
 package org.jabref.cli;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 
 import org.jabref.cli.ArgumentProcessor.Mode;
 import org.jabref.logic.bibtex.BibEntryAssert;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.util.OS;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.search.rules.SearchRules;
@@ -31,6 +40,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -134,4 +145,28 @@ class ArgumentProcessorTest {
 
         assertTrue(Files.exists(outputHtml));
     }
+
+    @Test
+    void conversionFailingPartwayKeepsOutputFile(@TempDir Path tempDir) throws Exception {
+        Path outputBib = tempDir.resolve("output.bib");
+        Files.writeString(outputBib, "original");
+
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(outputBib, StandardCharsets.UTF_8)) {
+            BibDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                    new BibWriter(fileWriter, OS.NEWLINE),
+                    new SelfContainedSaveConfiguration(),
+                    new FieldPreferences(true, List.of(), List.of()),
+                    mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                    new BibEntryTypesManager());
+            // More entries than a batch, so that some entries are written before the failure
+            ArgumentProcessor.EntryImport failingImport = entryConsumer -> {
+                IntStream.range(0, 1500).forEach(i -> entryConsumer.accept(new BibEntry().withField(StandardField.TITLE, "Title " + i)));
+                throw new IllegalStateException("Broken input");
+            };
+
+            assertThrows(IllegalStateException.class, () -> ArgumentProcessor.writeInBatches(failingImport, fileWriter, databaseWriter));
+        }
+
+        assertEquals("original", Files.readString(outputBib));
+    }
 }
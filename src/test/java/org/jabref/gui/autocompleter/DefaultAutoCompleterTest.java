@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import static org.jabref.gui.autocompleter.AutoCompleterUtil.getRequest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultAutoCompleterTest {
 
@@ -147,4 +148,45 @@ class DefaultAutoCompleterTest {
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("lue"));
         assertEquals(Collections.singletonList("value"), result);
     }
+
+    @Test
+    void completeAfterChangingFieldReturnsNewWord() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "test value");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("val"));
+
+        entry.setField(StandardField.TITLE, "test valid");
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("val"));
+        assertEquals(Collections.singletonList("valid"), result);
+    }
+
+    @Test
+    void completeAfterRemovingEntryReturnsNothing() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "test value");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("val"));
+
+        database.removeEntry(entry);
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("val"));
+        assertEquals(Collections.emptyList(), result);
+    }
+
+    @Test
+    void completeReturnsWordsStartingWithTextFirst() {
+        for (int i = 0; i < 20; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField(StandardField.TITLE, "interval" + i);
+            database.insertEntry(entry);
+        }
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "value");
+        database.insertEntry(entry);
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("val"));
+        assertTrue(result.contains("value"));
+    }
 }
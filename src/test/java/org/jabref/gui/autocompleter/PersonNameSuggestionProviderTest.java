@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.jabref.gui.autocompleter.AutoCompleterUtil.getRequest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PersonNameSuggestionProviderTest {
@@ -181,4 +183,24 @@ class PersonNameSuggestionProviderTest {
         Collection<Author> result = autoCompleter.provideSuggestions(getRequest("Kostakos, Va"));
         assertEquals(Collections.singletonList(vassilisKostakos), result);
     }
+
+    @Test
+    void databaseIsReleasedAfterCompleting() throws Exception {
+        WeakReference<BibDatabase> databaseReference = completeInNewDatabase();
+
+        for (int i = 0; (i < 50) && (databaseReference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(databaseReference.get());
+    }
+
+    private WeakReference<BibDatabase> completeInNewDatabase() {
+        // A new entry, as an entry refers to the database it is inserted into
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Vassilis Kostakos"));
+        new PersonNameSuggestionProvider(StandardField.AUTHOR, database).provideSuggestions(getRequest("Kos"));
+        return new WeakReference<>(database);
+    }
 }
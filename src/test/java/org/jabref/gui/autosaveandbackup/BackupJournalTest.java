@@ -0,0 +1,91 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BackupJournalTest {
+
+    private static final String PREAMBLE = "@Preamble{test}\n";
+    private static final String FIRST = "@Misc{first,\n}\n";
+    private static final String SECOND = "@Misc{second,\n}\n";
+    private static final String META_DATA = "@Comment{jabref-meta: databaseType:bibtex;}\n";
+
+    private final BibEntry first = new BibEntry();
+    private final BibEntry second = new BibEntry();
+    private Path backupPath;
+    private BackupJournal journal;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        backupPath = tempDir.resolve("library.bib--2023-01-01--00.00.00.bak");
+        String backup = PREAMBLE + "\n" + FIRST + "\n" + SECOND + "\n" + META_DATA;
+        Files.writeString(backupPath, backup, StandardCharsets.UTF_8);
+
+        int firstStart = PREAMBLE.length() + 1;
+        int secondStart = firstStart + FIRST.length() + 1;
+        journal = BackupJournal.create(backupPath, StandardCharsets.UTF_8, "\n", backup.length(), List.of(
+                new BackupJournal.EntryPosition(first, firstStart, firstStart + FIRST.length(), true),
+                new BackupJournal.EntryPosition(second, secondStart, secondStart + SECOND.length(), true)));
+    }
+
+    private Optional<String> replay() {
+        return BackupJournal.replay(backupPath).map(BackupJournal.ReplayedBackup::content);
+    }
+
+    @Test
+    void journalWithoutChangesIsNotReplayed() {
+        assertEquals(Optional.empty(), replay());
+    }
+
+    @Test
+    void changedEntryIsReplaced() throws Exception {
+        journal.append(List.of(new BackupJournal.EntryChange(first, Optional.of("@Book{first,\n}\n"))));
+        assertEquals(Optional.of(PREAMBLE + "\n@Book{first,\n}\n\n" + SECOND + "\n" + META_DATA), replay());
+    }
+
+    @Test
+    void latestChangeOfEntryWins() throws Exception {
+        journal.append(List.of(new BackupJournal.EntryChange(second, Optional.of("@Book{second,\n}\n"))));
+        journal.append(List.of(new BackupJournal.EntryChange(second, Optional.of("@Article{second,\n}\n"))));
+        assertEquals(Optional.of(PREAMBLE + "\n" + FIRST + "\n@Article{second,\n}\n\n" + META_DATA), replay());
+    }
+
+    @Test
+    void removedEntryIsRemovedWithItsLineBreak() throws Exception {
+        journal.append(List.of(new BackupJournal.EntryChange(first, Optional.empty())));
+        assertEquals(Optional.of(PREAMBLE + "\n" + SECOND + "\n" + META_DATA), replay());
+    }
+
+    @Test
+    void addedEntryIsAppendedAfterTheLastEntry() throws Exception {
+        BibEntry third = new BibEntry();
+        journal.append(List.of(new BackupJournal.EntryChange(third, Optional.of("@Misc{third,\n}\n"))));
+        assertEquals(Optional.of(PREAMBLE + "\n" + FIRST + "\n" + SECOND + "\n@Misc{third,\n}\n\n" + META_DATA), replay());
+    }
+
+    @Test
+    void incompleteRecordIsIgnored() throws Exception {
+        journal.append(List.of(new BackupJournal.EntryChange(first, Optional.empty())));
+        Files.writeString(BackupJournal.getJournalPath(backupPath), "upsert 1 100\n@Misc{sec", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(Optional.of(PREAMBLE + "\n" + SECOND + "\n" + META_DATA), replay());
+    }
+
+    @Test
+    void journalOfOtherBackupIsNotReplayed() throws Exception {
+        journal.append(List.of(new BackupJournal.EntryChange(first, Optional.empty())));
+        Files.writeString(backupPath, "@Misc{other,\n}\n", StandardCharsets.UTF_8);
+        assertEquals(Optional.empty(), replay());
+    }
+}
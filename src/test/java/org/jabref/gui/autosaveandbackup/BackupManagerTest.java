@@ -1,5 +1,6 @@
 package org.jabref.gui.autosaveandbackup;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -9,14 +10,24 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.preferences.FilePreferences;
 import org.jabref.preferences.PreferencesService;
@@ -188,4 +199,43 @@ public class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    public void backupDoesNotDifferAfterAddingSavingAndClosing(@TempDir Path customDir) throws Exception {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+
+        var database = new BibDatabaseContext(new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Misc).withCitationKey("b"),
+                new BibEntry(StandardEntryType.Misc).withCitationKey("c"))));
+        database.setDatabasePath(bibFile);
+        database.getMetaData().setSaveOrder(new SaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(InternalField.KEY_FIELD))));
+
+        var preferences = mock(PreferencesService.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getFieldPreferences()).thenReturn(new FieldPreferences(false, List.of(), List.of()));
+        var entryTypesManager = new BibEntryTypesManager();
+
+        BackupManager manager = BackupManager.start(mock(LibraryTab.class), database, entryTypesManager, preferences);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.determineBackupPathForNewBackup(backupDir).ifPresent(manager::performBackup);
+
+        database.getDatabase().insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("a"));
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withSaveOrder(SelfContainedSaveOrder.of(database.getMetaData().getSaveOrder().get()));
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(bibFile, StandardCharsets.UTF_8)) {
+            new BibtexDatabaseWriter(
+                    new BibWriter(fileWriter, database.getDatabase().getNewLineSeparator()),
+                    saveConfiguration,
+                    preferences.getFieldPreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    entryTypesManager).saveDatabase(database);
+        }
+        // Make the library older than the backup written on shutdown, so that their contents are compared
+        Files.setLastModifiedTime(bibFile, FileTime.fromMillis(0));
+
+        BackupManager.shutdown(database, backupDir, true);
+
+        assertFalse(BackupManager.backupFileDiffers(bibFile, backupDir));
+    }
 }
@@ -175,6 +175,21 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    @Test
+    void hitsFollowChangedEntries() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "search");
+        databaseContext.getDatabase().insertEntries(entry, new BibEntry().withField(StandardField.TITLE, "other"));
+        GroupNodeViewModel model = getViewModelForGroup(
+                new WordKeywordGroup("group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+        assertEquals(1, model.getHits().get());
+
+        entry.setField(StandardField.TITLE, "other");
+        assertEquals(0, model.getHits().get());
+
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+        assertEquals(1, model.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferencesService);
     }
@@ -0,0 +1,44 @@
+package org.jabref.http.server;
+
+import java.util.List;
+
+import org.jabref.http.JabrefMediaType;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.preferences.BibEntryPreferences;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibraryCacheTest {
+
+    private final LibraryCache libraryCache = new LibraryCache();
+
+    private static ImportFormatPreferences createImportFormatPreferences(char keywordSeparator) {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(keywordSeparator);
+        when(importFormatPreferences.fieldPreferences()).thenReturn(new FieldPreferences(false, List.of(), List.of()));
+        return importFormatPreferences;
+    }
+
+    @Test
+    void libraryIsReusedForEqualPreferences() throws Exception {
+        LibraryCache.CachedLibrary library = libraryCache.get(TestBibFile.GENERAL_SERVER_TEST.path, createImportFormatPreferences(','));
+        assertSame(library, libraryCache.get(TestBibFile.GENERAL_SERVER_TEST.path, createImportFormatPreferences(',')));
+    }
+
+    @Test
+    void libraryIsParsedAgainForOtherPreferences() throws Exception {
+        LibraryCache.CachedLibrary library = libraryCache.get(TestBibFile.GENERAL_SERVER_TEST.path, createImportFormatPreferences(','));
+        LibraryCache.CachedLibrary otherLibrary = libraryCache.get(TestBibFile.GENERAL_SERVER_TEST.path, createImportFormatPreferences(';'));
+        assertNotSame(library.getParserResult(), otherLibrary.getParserResult());
+        assertNotEquals(library.getEntityTag(JabrefMediaType.BIBTEX), otherLibrary.getEntityTag(JabrefMediaType.BIBTEX));
+    }
+}
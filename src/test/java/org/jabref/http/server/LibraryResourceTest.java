@@ -3,10 +3,15 @@ package org.jabref.http.server;
 import org.jabref.http.JabrefMediaType;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -15,6 +20,7 @@ class LibraryResourceTest extends ServerTest {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
@@ -36,4 +42,24 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getBibtexWithMatchingEntityTagIsNotModified() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get();
+        EntityTag entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+
+        Response secondResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id)
+                .request(JabrefMediaType.BIBTEX)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                .get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), secondResponse.getStatus());
+    }
+
+    @Test
+    void entityTagDiffersPerMediaType() {
+        EntityTag bibtexTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get().getEntityTag();
+        EntityTag cslTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+        assertNotEquals(bibtexTag, cslTag);
+    }
 }
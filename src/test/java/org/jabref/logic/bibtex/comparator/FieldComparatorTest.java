@@ -1,8 +1,10 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.StandardField;
@@ -261,4 +263,38 @@ public class FieldComparatorTest {
 
         assertEquals(1, comparator.compare(smaller, bigger));
     }
+
+    static Stream<Arguments> sortKeysCompareLikeEntries() {
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article),
+                new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.AUTHOR, "Müller, Hans and Smith, John")
+                        .withField(StandardField.YEAR, "2020")
+                        .withField(StandardField.MONTH, "#mar#")
+                        .withField(StandardField.VOLUME, "12")
+                        .withField(StandardField.TITLE, "The {B}est title"),
+                new BibEntry(StandardEntryType.Misc)
+                        .withField(StandardField.AUTHOR, "Hans Mueller")
+                        .withField(StandardField.YEAR, "unknown")
+                        .withField(StandardField.MONTH, "1")
+                        .withField(StandardField.VOLUME, "IV")
+                        .withField(StandardField.TITLE, "a_title"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "{The JabRef Team}")
+                        .withField(StandardField.YEAR, "1999")
+                        .withField(StandardField.VOLUME, "3")
+                        .withField(StandardField.TITLE, "A title"));
+        List<Field> fields = List.of(InternalField.TYPE_HEADER, InternalField.KEY_FIELD, StandardField.AUTHOR, StandardField.YEAR,
+                StandardField.MONTH, StandardField.VOLUME, StandardField.TITLE);
+        return fields.stream().flatMap(field -> Stream.of(false, true).flatMap(descending ->
+                entries.stream().flatMap(first -> entries.stream().map(second ->
+                        Arguments.of(new FieldComparator(new OrFields(field), descending), first, second)))));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void sortKeysCompareLikeEntries(FieldComparator comparator, BibEntry first, BibEntry second) {
+        assertEquals(Integer.signum(comparator.compare(first, second)),
+                Integer.signum(comparator.compareSortKeys(comparator.getSortKey(first), comparator.getSortKey(second))));
+    }
 }
@@ -42,6 +42,20 @@ public class BstVMTest {
                 result.replaceAll("\\s", ""));
     }
 
+    @Test
+    void abbrvRendersAgainWithCompiledFunctions() throws RecognitionException, IOException {
+        BstVM vm = new BstVM(Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst"));
+        BibEntry entry = defaultTestEntry();
+        BibEntry otherEntry = defaultTestEntry().withCitationKey("canh06").withField(StandardField.YEAR, "2006");
+
+        String first = vm.render(List.of(entry));
+        String batch = vm.render(List.of(entry, otherEntry));
+
+        assertEquals(first, vm.render(List.of(entry)));
+        assertTrue(batch.contains("\\bibitem{canh05}"));
+        assertTrue(batch.contains("\\bibitem{canh06}"));
+    }
+
     @Test
     public void simple() throws RecognitionException {
         BstVM vm = new BstVM("""
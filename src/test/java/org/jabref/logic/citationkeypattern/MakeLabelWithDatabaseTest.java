@@ -1,5 +1,7 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -184,6 +186,55 @@ class MakeLabelWithDatabaseTest {
         assertEquals(Optional.of("Doe2016b"), entry3.getCitationKey());
     }
 
+    @Test
+    void generateKeysForManyDuplicatesInOneRun() {
+        for (int i = 0; i < 30; i++) {
+            database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016"));
+        }
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(database.getEntries());
+        assertEquals(Optional.of("Doe2016"), database.getEntries().getFirst().getCitationKey());
+        assertEquals(Optional.of("Doe2016a"), database.getEntries().get(1).getCitationKey());
+        assertEquals(Optional.of("Doe2016ad"), database.getEntries().getLast().getCitationKey());
+    }
+
+    @Test
+    void generateKeysReportsProgressPerEntry() {
+        for (int i = 0; i < 3; i++) {
+            database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016"));
+        }
+        List<Integer> progress = new ArrayList<>();
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(database.getEntries(), progress::add);
+        assertEquals(List.of(1, 2, 3, 4), progress);
+    }
+
+    @Test
+    void generateKeysInOneRunEqualsGeneratingKeysOneByOne() {
+        BibDatabase databaseGeneratedOneByOne = createDatabaseWithDuplicateKeys();
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(bibtexKeyPattern, databaseGeneratedOneByOne, preferences);
+        databaseGeneratedOneByOne.getEntries().forEach(keyGenerator::generateAndSetKey);
+
+        BibDatabase databaseGeneratedInOneRun = createDatabaseWithDuplicateKeys();
+        new CitationKeyGenerator(bibtexKeyPattern, databaseGeneratedInOneRun, preferences).generateAndSetKeys(databaseGeneratedInOneRun.getEntries());
+
+        assertEquals(databaseGeneratedOneByOne.getEntries().stream().map(BibEntry::getCitationKey).toList(),
+                databaseGeneratedInOneRun.getEntries().stream().map(BibEntry::getCitationKey).toList());
+    }
+
+    private static BibDatabase createDatabaseWithDuplicateKeys() {
+        BibDatabase result = new BibDatabase();
+        for (int i = 0; i < 5; i++) {
+            result.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016"));
+        }
+        // Keeps its key, which is before the keys generated so far
+        result.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016").withCitationKey("Doe2016b"));
+        // Frees a key generated before
+        result.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2017").withCitationKey("Doe2016a"));
+        for (int i = 0; i < 5; i++) {
+            result.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Jane Doe").withField(StandardField.YEAR, "2016"));
+        }
+        return result;
+    }
+
     @Test
     void generateKeyAuthLowerModified() {
         bibtexKeyPattern.setDefaultValue("[auth:lower][year]");
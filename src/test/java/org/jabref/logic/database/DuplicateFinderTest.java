@@ -0,0 +1,92 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private BibEntryTypesManager entryTypesManager;
+    private DuplicateFinder duplicateFinder;
+
+    @BeforeEach
+    void setUp() {
+        entryTypesManager = new BibEntryTypesManager();
+        duplicateFinder = new DuplicateFinder(entryTypesManager);
+    }
+
+    private List<List<BibEntry>> findDuplicates(List<BibEntry> entries) {
+        List<List<BibEntry>> pairs = new ArrayList<>();
+        duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> pairs.add(List.of(first, second)));
+        return pairs;
+    }
+
+    private static BibEntry article(String author, String title, String year) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, author)
+                .withField(StandardField.TITLE, title)
+                .withField(StandardField.YEAR, year);
+    }
+
+    @Test
+    void findsEntriesWithSameDoiAndDifferentType() {
+        BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/182");
+        BibEntry inProceedings = new BibEntry(StandardEntryType.InProceedings).withField(StandardField.DOI, "10.1000/182");
+        BibEntry other = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/183");
+
+        assertEquals(List.of(List.of(article, inProceedings)), findDuplicates(List.of(article, other, inProceedings)));
+    }
+
+    @Test
+    void findsEntriesWithSameAuthorAndYearButMisspelledTitle() {
+        BibEntry first = article("Smith, John", "A serious paper about something", "2017");
+        BibEntry second = article("John Smith", "A serius paper about something", "2017");
+
+        assertEquals(List.of(List.of(first, second)), findDuplicates(List.of(first, second)));
+    }
+
+    @Test
+    void doesNotFindUnrelatedEntries() {
+        BibEntry first = article("Smith, John", "A serious paper about something", "2017");
+        BibEntry second = article("Doe, Jane", "Holy Moly Uffdada und Trallalla", "2017");
+
+        assertEquals(List.of(), findDuplicates(List.of(first, second)));
+    }
+
+    @Test
+    void findsSameResultsAsComparingAllPairs() {
+        List<BibEntry> entries = List.of(
+                article("Smith, John", "A serious paper about something", "2017"),
+                article("Doe, Jane", "A serious paper about something", "2017"),
+                article("Smith, J.", "A serious paper about something else", "2017"),
+                article("Smith, John", "Completely different", "2017"),
+                article("Smith, John", "A serious paper about something", "2018"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "A serious paper about something"),
+                new BibEntry(StandardEntryType.Misc).withField(StandardField.NOTE, "Some note"),
+                new BibEntry(StandardEntryType.Misc).withField(StandardField.NOTE, "Some note"),
+                new BibEntry(StandardEntryType.Misc).withField(StandardField.EPRINT, "1234.5678"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.EPRINT, "1234.5678"));
+
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        List<List<BibEntry>> expected = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(List.of(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        assertEquals(expected, findDuplicates(entries));
+    }
+}
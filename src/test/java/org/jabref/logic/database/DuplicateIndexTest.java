@@ -0,0 +1,79 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateIndexTest {
+
+    private BibDatabase database;
+    private BibEntry vikings;
+    private BibEntry romans;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        vikings = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "The great Vikings")
+                .withField(StandardField.AUTHOR, "Müller, Hans")
+                .withField(StandardField.YEAR, "2020");
+        romans = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Rome in the antiquity")
+                .withField(StandardField.DOI, "10.1000/182");
+        database.insertEntries(vikings, romans);
+    }
+
+    @Test
+    void entryWithSameDoiIsCandidate() {
+        BibEntry entry = new BibEntry(StandardEntryType.Book).withField(StandardField.DOI, "10.1000/182");
+        assertEquals(List.of(romans), DuplicateIndex.forDatabase(database).getCandidates(entry));
+    }
+
+    @Test
+    void entryWithSameAuthorAndYearIsCandidate() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Something else")
+                .withField(StandardField.AUTHOR, "H. Müller")
+                .withField(StandardField.YEAR, "2020");
+        assertEquals(List.of(vikings), DuplicateIndex.forDatabase(database).getCandidates(entry));
+    }
+
+    @Test
+    void entryWithOtherTypeIsNoCandidate() {
+        BibEntry entry = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Rome in the antiquity");
+        assertEquals(List.of(), DuplicateIndex.forDatabase(database).getCandidates(entry));
+    }
+
+    @Test
+    void changedEntryIsIndexed() {
+        DuplicateIndex index = DuplicateIndex.forDatabase(database);
+        romans.setField(StandardField.TITLE, "The great Vikings");
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "The great Vikings");
+        assertEquals(List.of(vikings, romans), index.getCandidates(entry));
+    }
+
+    @Test
+    void removedEntryIsNoCandidate() {
+        DuplicateIndex index = DuplicateIndex.forDatabase(database);
+        database.removeEntry(romans);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/182");
+        assertEquals(List.of(), index.getCandidates(entry));
+    }
+
+    @Test
+    void insertedEntryIsCandidate() {
+        DuplicateIndex index = DuplicateIndex.forDatabase(database);
+        BibEntry inserted = new BibEntry(StandardEntryType.Article).withField(StandardField.EPRINT, "1234.5678");
+        database.insertEntry(inserted);
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.EPRINT, "1234.5678");
+        assertEquals(List.of(inserted), index.getCandidates(entry));
+    }
+}
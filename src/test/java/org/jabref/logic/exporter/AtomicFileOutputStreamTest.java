@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -65,4 +66,17 @@ class AtomicFileOutputStreamTest {
         // Written file still has the contents as before the error
         assertEquals(FIFTY_CHARS, Files.readString(pathToTestFile));
     }
+
+    @Test
+    public void originalContentExistsAfterAbort(@TempDir Path tempDir) throws Exception {
+        Path out = tempDir.resolve("aborted-save.txt");
+        Files.writeString(out, FIFTY_CHARS);
+
+        try (AtomicFileWriter atomicFileWriter = new AtomicFileWriter(out, StandardCharsets.UTF_8)) {
+            atomicFileWriter.write(FIVE_THOUSAND_CHARS);
+            atomicFileWriter.abort();
+        }
+
+        assertEquals(FIFTY_CHARS, Files.readString(out));
+    }
 }
@@ -165,6 +165,41 @@ public class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void writeChangedEntryAgainAfterFurtherChange() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First title");
+        entry.setChanged(true);
+        database.insertEntry(entry);
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+
+        entry.setField(StandardField.TITLE, "Second title");
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+
+        assertEquals("@Article{," + OS.NEWLINE
+                        + "  title = {Second title}," + OS.NEWLINE
+                        + "}" + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
+    @Test
+    void writeUnchangedEntryTwiceGivesSameOutput() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some title");
+        entry.setChanged(true);
+        database.insertEntry(entry);
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+        String firstOutput = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+
+        assertEquals(firstOutput, stringWriter.toString());
+    }
+
     @Test
     void writeEntryWithDuplicateKeywords() throws Exception {
         BibEntry entry = new BibEntry();
@@ -1046,4 +1081,24 @@ public class BibtexDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void writeEntriesInBatchesLikeWholeDatabase() throws Exception {
+        database.setPreamble("Test preamble");
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("first");
+        BibEntry second = new BibEntry(StandardEntryType.Book).withCitationKey("second");
+        database.insertEntries(first, second);
+        databaseWriter.saveDatabase(bibtexContext);
+        String wholeDatabase = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.saveBeginning(bibtexContext);
+        databaseWriter.saveEntries(bibtexContext, List.of(first));
+        databaseWriter.saveEntries(bibtexContext, List.of(second));
+        databaseWriter.saveEnd(bibtexContext);
+
+        assertEquals(wholeDatabase, stringWriter.toString());
+    }
 }
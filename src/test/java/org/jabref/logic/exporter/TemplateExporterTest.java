@@ -0,0 +1,121 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.SimpleStringProperty;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.preferences.DOIPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TemplateExporterTest {
+
+    private Path testFolder;
+    private Path layoutFile;
+    private BibDatabaseContext databaseContext;
+    private LayoutFormatterPreferences layoutPreferences;
+
+    @BeforeEach
+    void setUp(@TempDir Path testFolder) {
+        this.testFolder = testFolder;
+        layoutFile = testFolder.resolve("custom.layout");
+        databaseContext = new BibDatabaseContext();
+        layoutPreferences = createLayoutPreferences();
+    }
+
+    private static LayoutFormatterPreferences createLayoutPreferences() {
+        return new LayoutFormatterPreferences(
+                new NameFormatterPreferences(List.of(), List.of()),
+                new DOIPreferences(false, ""),
+                new SimpleStringProperty(""));
+    }
+
+    private TemplateExporter createExporter(BlankLineBehaviour blankLineBehaviour) {
+        TemplateExporter exporter = new TemplateExporter(
+                "Custom",
+                "custom",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                layoutPreferences,
+                SaveOrder.getDefaultSaveOrder(),
+                blankLineBehaviour);
+        exporter.setCustomExport(true);
+        return exporter;
+    }
+
+    @Test
+    void entriesAreWrittenInOrderWithTheirNumbers() throws Exception {
+        Files.writeString(layoutFile, "\\format[Number]{\\title}: \\title\n");
+        List<BibEntry> entries = IntStream.rangeClosed(1, 2500)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "Title " + i))
+                                          .toList();
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+
+        createExporter(null).export(databaseContext, path, entries);
+
+        List<String> expected = IntStream.rangeClosed(1, 2500).mapToObj(i -> i + ": Title " + i).toList();
+        assertEquals(expected, Files.readAllLines(path));
+    }
+
+    @Test
+    void changedLayoutFileIsReadAgain() throws Exception {
+        List<BibEntry> entries = List.of(new BibEntry().withField(StandardField.TITLE, "my paper title"));
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+        TemplateExporter exporter = createExporter(null);
+        Files.writeString(layoutFile, "\\title\n");
+        exporter.export(databaseContext, path, entries);
+
+        Files.writeString(layoutFile, "Title: \\title\n");
+        Files.setLastModifiedTime(layoutFile, FileTime.fromMillis(Files.getLastModifiedTime(layoutFile).toMillis() + 1000));
+        exporter.export(databaseContext, path, entries);
+
+        assertEquals(List.of("Title: my paper title"), Files.readAllLines(path));
+    }
+
+    @Test
+    void unchangedLayoutFileIsReusedByTheNextExport() throws Exception {
+        List<BibEntry> entries = List.of(new BibEntry().withField(StandardField.TITLE, "my paper title"));
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+        Files.writeString(layoutFile, "\\title\n");
+        FileTime lastModified = Files.getLastModifiedTime(layoutFile);
+        createExporter(null).export(databaseContext, path, entries);
+
+        // Only a layout compiled before keeps the old content if the modification time is the same
+        Files.writeString(layoutFile, "Title: \\title\n");
+        Files.setLastModifiedTime(layoutFile, lastModified);
+        // Each export gets new preferences from JabRefPreferences
+        layoutPreferences = createLayoutPreferences();
+        createExporter(null).export(databaseContext, path, entries);
+
+        assertEquals(List.of("my paper title"), Files.readAllLines(path));
+    }
+
+    @Test
+    void blankLinesAreDeleted() throws Exception {
+        Files.writeString(layoutFile, "\\title\r\n\n  \n\\journal\n\\year\n");
+        List<BibEntry> entries = List.of(new BibEntry()
+                .withField(StandardField.TITLE, "my paper title")
+                .withField(StandardField.YEAR, "2024"));
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+
+        createExporter(BlankLineBehaviour.DELETE_BLANKS).export(databaseContext, path, entries);
+
+        assertEquals(List.of("my paper title", "2024"), Files.readAllLines(path));
+    }
+}
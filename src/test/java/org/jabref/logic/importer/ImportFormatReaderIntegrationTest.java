@@ -56,6 +56,14 @@ class ImportFormatReaderIntegrationTest {
         assertEquals(count, reader.importUnknownFormat(data).parserResult().getDatabase().getEntries().size());
     }
 
+    @ParameterizedTest
+    @MethodSource("importFormats")
+    void importUnknownFormatFindsSameFormatForFileAndString(String resource, String format, int count) throws Exception {
+        Path file = Path.of(ImportFormatReaderIntegrationTest.class.getResource(resource).toURI());
+        String data = Files.readString(file);
+        assertEquals(reader.importUnknownFormat(data).format(), reader.importUnknownFormat(file, new DummyFileUpdateMonitor()).format());
+    }
+
     private static Stream<Object[]> importFormats() {
         Collection<Object[]> result = new ArrayList<>();
         result.add(new Object[]{"fileformat/RisImporterTest1.ris", "ris", 1});
@@ -4,11 +4,14 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import javafx.collections.FXCollections;
+
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.StandardFileType;
@@ -20,6 +23,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -30,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * This class tests the BibtexImporter.
@@ -208,4 +213,43 @@ public class BibtexImporterTest {
                 Path.of(BibtexImporterTest.class.getResource("encoding-utf-8-without-header.bib").toURI()));
         assertFalse(parserResult.getMetaData().getEncodingExplicitlySupplied());
     }
+
+    @Test
+    void importDatabaseUsingSnapshotReadsUnchangedFileFromSnapshot(@TempDir Path tempDir) throws IOException, URISyntaxException {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.observableArrayList());
+        importer = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        Path file = tempDir.resolve("library.bib");
+        Files.copy(Path.of(BibtexImporterTest.class.getResource("BibtexImporter.examples.bib").toURI()), file);
+        Path backupDir = tempDir.resolve("backup");
+
+        ParserResult parsed = importer.importDatabaseUsingSnapshot(file, backupDir);
+        ParserResult fromSnapshot = importer.importDatabaseUsingSnapshot(file, backupDir);
+
+        assertEquals(1, Files.list(backupDir).count());
+        assertEquals(parsed.getDatabase().getEntries(), fromSnapshot.getDatabase().getEntries());
+        assertEquals(parsed.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                fromSnapshot.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(parsed.getDatabase().getEpilog(), fromSnapshot.getDatabase().getEpilog());
+        assertEquals(parsed.getMetaData(), fromSnapshot.getMetaData());
+    }
+
+    @Test
+    void importDatabaseUsingSnapshotParsesChangedFile(@TempDir Path tempDir) throws IOException {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.observableArrayList());
+        importer = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        Path file = tempDir.resolve("library.bib");
+        Path backupDir = tempDir.resolve("backup");
+
+        Files.writeString(file, "@Article{first, title = {First}}");
+        importer.importDatabaseUsingSnapshot(file, backupDir);
+        Files.writeString(file, "@Article{second, title = {Second}}");
+        ParserResult result = importer.importDatabaseUsingSnapshot(file, backupDir);
+
+        assertEquals(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("second").withField(StandardField.TITLE, "Second")),
+                result.getDatabase().getEntries());
+    }
 }
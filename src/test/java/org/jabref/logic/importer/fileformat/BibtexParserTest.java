@@ -31,6 +31,7 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
@@ -60,6 +61,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -333,6 +335,67 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    private static String largeLibrary(String separator) {
+        StringBuilder library = new StringBuilder("% DBID: 1234" + OS.NEWLINE + OS.NEWLINE)
+                .append("@Preamble{\\newcommand{\\noopsort}[1]{}}").append(OS.NEWLINE)
+                .append("@String{aString = {some content}}").append(OS.NEWLINE);
+        for (int i = 0; i < 3000; i++) {
+            library.append("@Article{key").append(i).append(',').append(OS.NEWLINE)
+                   .append("  author = {Author ").append(i).append("},").append(OS.NEWLINE)
+                   .append("  title  = {A {Title} with some words ").append(i).append("},").append(OS.NEWLINE)
+                   .append("  journal = aString,").append(OS.NEWLINE)
+                   .append('}').append(OS.NEWLINE)
+                   .append(separator);
+        }
+        return library.append("@Comment{jabref-meta: databaseType:bibtex;}").append(OS.NEWLINE)
+                      .append("some epilog").toString();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "\n", "% a comment between entries\n", "@Comment{another comment}\n\n"})
+    void parseInParallelEqualsSequentialParse(String separator) throws IOException {
+        String library = largeLibrary(separator);
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(library));
+        ParserResult result = new BibtexParser(importFormatPreferences).parseInParallel(new StringReader(library));
+
+        BibDatabase expectedDatabase = expected.getDatabase();
+        BibDatabase database = result.getDatabase();
+        assertEquals(expectedDatabase.getEntries(), database.getEntries());
+        assertEquals(expectedDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                database.getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expectedDatabase.getStringValues().stream().map(BibtexString::getParsedSerialization).toList(),
+                database.getStringValues().stream().map(BibtexString::getParsedSerialization).toList());
+        assertEquals(expectedDatabase.getPreamble(), database.getPreamble());
+        assertEquals(expectedDatabase.getEpilog(), database.getEpilog());
+        assertEquals(expectedDatabase.getSharedDatabaseID(), database.getSharedDatabaseID());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+
+    @Test
+    void splitAtEntriesSplitsBetweenEntriesOnly() {
+        List<String> parts = BibtexParser.splitAtEntries(largeLibrary(OS.NEWLINE));
+        assertTrue(parts.size() > 1);
+        assertEquals(largeLibrary(OS.NEWLINE), String.join("", parts));
+        parts.subList(1, parts.size()).forEach(part -> assertTrue(part.startsWith("@Article{key")));
+    }
+
+    @Test
+    void splitAtEntriesKeepsEntriesPrecededByComment() {
+        assertEquals(1, BibtexParser.splitAtEntries(largeLibrary("% a comment between entries" + OS.NEWLINE)).size());
+    }
+
+    @Test
+    void parseSetsParsedSerializationOfEntriesLargerThanReadBuffer() throws IOException {
+        String firstEntry = "@article{canh05," + OS.NEWLINE
+                + "  abstract = {" + "A long abstract. ".repeat(10_000) + "}}" + OS.NEWLINE;
+        String secondEntry = "@inProceedings{foo," + "  author={Norton Bar}}";
+        List<BibEntry> parsedEntries = parser.parse(new StringReader(firstEntry + secondEntry))
+                                             .getDatabase().getEntries();
+        assertEquals(firstEntry, parsedEntries.getFirst().getParsedSerialization());
+        assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
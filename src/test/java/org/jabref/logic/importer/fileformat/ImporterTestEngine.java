@@ -57,6 +57,16 @@ public class ImporterTestEngine {
         BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
     }
 
+    public static void testImportEntriesOneByOne(Importer importer, String fileName, String fileType) throws IOException, ImportException {
+        List<BibEntry> entries = new ArrayList<>();
+        ParserResult parserResult = importer.importEntries(getPath(fileName), entries::add);
+        if (parserResult.isInvalid()) {
+            throw new ImportException(parserResult.getErrorMessage());
+        }
+        assertEquals(List.of(), parserResult.getDatabase().getEntries());
+        BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
+    }
+
     private static Path getPath(String fileName) throws IOException {
         try {
             return Path.of(ImporterTestEngine.class.getResource(fileName).toURI());
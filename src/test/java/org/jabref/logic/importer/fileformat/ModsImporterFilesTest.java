@@ -41,4 +41,10 @@ class ModsImporterFilesTest {
     void importEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new ModsImporter(importFormatPreferences), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesOneByOne(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesOneByOne(new ModsImporter(importFormatPreferences), fileName, FILE_ENDING);
+    }
 }
@@ -0,0 +1,75 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntegrityCheckCacheTest {
+
+    private final AtomicInteger numberOfChecks = new AtomicInteger();
+    private BibDatabase database;
+    private BibEntry entry;
+    private IntegrityCheckCache cache;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some title");
+        database = new BibDatabase();
+        database.insertEntry(entry);
+        cache = IntegrityCheckCache.forDatabase(database);
+    }
+
+    private List<IntegrityMessage> check(List<Object> configuration) {
+        return cache.get(entry, configuration, checkedEntry -> {
+            numberOfChecks.incrementAndGet();
+            return List.of(new IntegrityMessage("message", checkedEntry, StandardField.TITLE));
+        });
+    }
+
+    @Test
+    void unchangedEntryIsCheckedOnce() {
+        List<IntegrityMessage> messages = check(List.of());
+        assertEquals(messages, check(List.of()));
+        assertEquals(1, numberOfChecks.get());
+    }
+
+    @Test
+    void changedEntryIsCheckedAgain() {
+        check(List.of());
+        entry.setField(StandardField.TITLE, "Other title");
+        check(List.of());
+        assertEquals(2, numberOfChecks.get());
+    }
+
+    @Test
+    void entryWithChangedTypeIsCheckedAgain() {
+        check(List.of());
+        entry.setType(StandardEntryType.Book);
+        check(List.of());
+        assertEquals(2, numberOfChecks.get());
+    }
+
+    @Test
+    void entryIsCheckedAgainForOtherConfiguration() {
+        check(List.of(true));
+        check(List.of(false));
+        assertEquals(2, numberOfChecks.get());
+    }
+
+    @Test
+    void cacheIsSharedPerDatabase() {
+        check(List.of());
+        cache = IntegrityCheckCache.forDatabase(database);
+        check(List.of());
+        assertEquals(1, numberOfChecks.get());
+    }
+}
@@ -154,6 +154,30 @@ class JournalAbbreviationRepositoryTest {
         assertEquals("LN", repository.getShortestUniqueAbbreviation("Long Name").orElse("WRONG"));
     }
 
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals(new Abbreviation("Long Name", "L. N.", "LN"), repository.get("long name").get());
+        assertEquals(new Abbreviation("Long Name", "L. N.", "LN"), repository.get("l n").get());
+        assertTrue(repository.isKnownName("ln"));
+    }
+
+    @Test
+    void customAbbreviationIsAbbreviatedName() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertTrue(repository.isAbbreviatedName("L. N."));
+        assertTrue(repository.isAbbreviatedName("LN"));
+        assertFalse(repository.isAbbreviatedName("long name"));
+    }
+
+    @Test
+    void builtInAbbreviationIsAbbreviatedName() {
+        assertTrue(repository.isAbbreviatedName("Am. J. Public Health"));
+        assertFalse(repository.isAbbreviatedName("American Journal of Public Health"));
+    }
+
     @Test
     void getFromFullName() {
         assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("American Journal of Public Health").get());
@@ -0,0 +1,104 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalSearcherTest {
+
+    private BibDatabase database;
+    private BibEntry vikings;
+    private BibEntry romans;
+    private IncrementalSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        vikings = new BibEntry().withField(StandardField.TITLE, "The great Vikinger");
+        romans = new BibEntry().withField(StandardField.TITLE, "Rome in the antiquity");
+        database.insertEntries(vikings, romans);
+        searcher = new IncrementalSearcher(database);
+    }
+
+    private static SearchQuery query(String query) {
+        return new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+    }
+
+    private IncrementalSearcher.SearchResult search(String query) {
+        return searcher.search(query(query), () -> false).orElseThrow();
+    }
+
+    @Test
+    void resultContainsMatchingEntries() {
+        IncrementalSearcher.SearchResult result = search("the");
+        assertEquals(2, result.getNumberOfMatches());
+        assertTrue(result.isMatch(vikings));
+        assertTrue(result.isMatch(romans));
+    }
+
+    @Test
+    void refinedSearchFindsSameEntriesAsFullSearch() {
+        search("the");
+        IncrementalSearcher.SearchResult result = search("the vik");
+        assertEquals(1, result.getNumberOfMatches());
+        assertTrue(result.isMatch(vikings));
+        assertFalse(result.isMatch(romans));
+    }
+
+    @Test
+    void refinedSearchFindsEntryChangedSincePreviousSearch() {
+        search("vik");
+        romans.setField(StandardField.TITLE, "Vikings in Rome");
+        IncrementalSearcher.SearchResult result = search("viki");
+        assertEquals(2, result.getNumberOfMatches());
+    }
+
+    @Test
+    void resultMatchesEntryChangedAfterSearchAgainstQuery() {
+        IncrementalSearcher.SearchResult result = search("rome");
+        romans.setField(StandardField.TITLE, "Athens");
+        assertFalse(result.isMatch(romans));
+    }
+
+    @Test
+    void cancelledSearchHasNoResult() {
+        assertEquals(Optional.empty(), searcher.search(query("the"), () -> true));
+    }
+
+    @Test
+    void appendedWordRefinesQuery() {
+        assertTrue(IncrementalSearcher.refines(query("great vik"), query("great")));
+    }
+
+    @Test
+    void completedWordRefinesQuery() {
+        assertTrue(IncrementalSearcher.refines(query("Vikinger"), query("vik")));
+    }
+
+    @Test
+    void removedWordDoesNotRefineQuery() {
+        assertFalse(IncrementalSearcher.refines(query("great"), query("great vik")));
+    }
+
+    @Test
+    void fulltextSearchIsNotRefined() {
+        EnumSet<SearchFlags> fulltext = EnumSet.of(SearchFlags.FULLTEXT);
+        assertFalse(IncrementalSearcher.refines(new SearchQuery("vikinger", fulltext), new SearchQuery("vik", fulltext)));
+    }
+
+    @Test
+    void grammarBasedSearchIsNotRefined() {
+        assertFalse(IncrementalSearcher.refines(query("title=vikinger"), query("title=vik")));
+    }
+}
@@ -0,0 +1,113 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedFieldIndexTest {
+
+    private BibDatabase database;
+    private BibEntry vikings;
+    private BibEntry romans;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        vikings = new BibEntry()
+                .withField(StandardField.TITLE, "The great Vikinger")
+                .withField(StandardField.AUTHOR, "Müller, Hans");
+        romans = new BibEntry()
+                .withField(StandardField.TITLE, "Rome in the antiquity")
+                .withField(StandardField.AUTHOR, "Smith, John");
+        database.insertEntries(vikings, romans);
+    }
+
+    private InvertedFieldIndex.Candidates candidates(String query) {
+        return InvertedFieldIndex.forDatabase(database).getCandidates(new SearchQuery(query, EnumSet.noneOf(SearchFlags.class)));
+    }
+
+    @Test
+    void containsBasedSearchMatchesSubstringOfToken() {
+        InvertedFieldIndex.Candidates candidates = candidates("vikin");
+        assertTrue(candidates.mayMatch(vikings));
+        assertFalse(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void containsBasedSearchMatchesSubstringInsideToken() {
+        InvertedFieldIndex.Candidates candidates = candidates("tiqui");
+        assertFalse(candidates.mayMatch(vikings));
+        assertTrue(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void containsBasedSearchDoesNotRestrictByShortWords() {
+        InvertedFieldIndex.Candidates candidates = candidates("in");
+        assertTrue(candidates.mayMatch(vikings));
+        assertTrue(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void containsBasedSearchRequiresAllWords() {
+        InvertedFieldIndex.Candidates candidates = candidates("great smith");
+        assertFalse(candidates.mayMatch(vikings));
+        assertFalse(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void containsBasedSearchIgnoresAccents() {
+        assertTrue(candidates("muller").mayMatch(vikings));
+    }
+
+    @Test
+    void grammarBasedSearchRestrictsToField() {
+        InvertedFieldIndex.Candidates candidates = candidates("author=great");
+        assertFalse(candidates.mayMatch(vikings));
+        assertFalse(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void grammarBasedSearchCombinesWithOr() {
+        InvertedFieldIndex.Candidates candidates = candidates("title=rome or author=müller");
+        assertTrue(candidates.mayMatch(vikings));
+        assertTrue(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void negationYieldsAllEntries() {
+        InvertedFieldIndex.Candidates candidates = candidates("not title=rome");
+        assertTrue(candidates.mayMatch(vikings));
+        assertTrue(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void changedFieldIsIndexed() {
+        romans.setField(StandardField.TITLE, "Vikings in Rome");
+        assertTrue(candidates("vikings").mayMatch(romans));
+    }
+
+    @Test
+    void entryChangedAfterDeterminingCandidatesIsCandidate() {
+        InvertedFieldIndex.Candidates candidates = candidates("vikin");
+        romans.setField(StandardField.TITLE, "Vikings in Rome");
+        assertTrue(candidates.mayMatch(romans));
+    }
+
+    @Test
+    void insertedEntryIsIndexed() {
+        BibEntry entry = new BibEntry().withField(StandardField.JOURNAL, "Journal of Vikings");
+        database.insertEntry(entry);
+        InvertedFieldIndex.Candidates candidates = candidates("journal");
+        assertTrue(candidates.mayMatch(entry));
+        assertFalse(candidates.mayMatch(vikings));
+    }
+}
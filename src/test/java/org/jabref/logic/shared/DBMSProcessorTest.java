@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -303,6 +304,42 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void getChangesSinceReturnsChangedAndRemovedEntries() throws OfflineLockException, SQLException {
+        assertTrue(dbmsProcessor.setUpChangeLog());
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long revision = dbmsProcessor.getLatestRevision();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+
+        SharedChangeSet changes = dbmsProcessor.getChangesSince(revision).orElseThrow();
+
+        assertEquals(Map.of(secondEntry.getSharedBibEntryData().getSharedID(), 2), changes.sharedIDVersionMapping());
+        assertEquals(Set.of(firstEntry.getSharedBibEntryData().getSharedID()), changes.removedSharedIDs());
+        assertEquals(dbmsProcessor.getLatestRevision(), changes.revision());
+    }
+
+    @Test
+    void removeChangesUpToKeepsLaterChanges() throws OfflineLockException, SQLException {
+        assertTrue(dbmsProcessor.setUpChangeLog());
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long revision = dbmsProcessor.getLatestRevision();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.removeChangesUpTo(revision);
+
+        SharedChangeSet changes = dbmsProcessor.getChangesSince(0).orElseThrow();
+
+        assertEquals(Set.of(secondEntry.getSharedBibEntryData().getSharedID()), changes.sharedIDVersionMapping().keySet());
+        assertTrue(changes.oldestRevision() > revision);
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
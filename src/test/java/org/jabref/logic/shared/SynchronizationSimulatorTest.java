@@ -4,6 +4,9 @@ import java.sql.SQLException;
 import java.util.List;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
+import org.jabref.logic.cleanup.FieldFormatterCleanup;
+import org.jabref.logic.cleanup.FieldFormatterCleanups;
+import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -30,6 +33,7 @@ public class SynchronizationSimulatorTest {
 
     private BibDatabaseContext clientContextA;
     private BibDatabaseContext clientContextB;
+    private DBMSConnection dbmsConnection;
     private SynchronizationEventListenerTest eventListenerB; // used to monitor occurring events
     private final GlobalCitationKeyPattern pattern = GlobalCitationKeyPattern.fromPattern("[auth][year]");
 
@@ -44,7 +48,7 @@ public class SynchronizationSimulatorTest {
 
     @BeforeEach
     public void setup() throws Exception {
-        DBMSConnection dbmsConnection = ConnectorTest.getTestDBMSConnection(TestManager.getDBMSTypeTestParameter());
+        dbmsConnection = ConnectorTest.getTestDBMSConnection(TestManager.getDBMSTypeTestParameter());
         TestManager.clearTables(dbmsConnection);
 
         clientContextA = new BibDatabaseContext();
@@ -67,6 +71,21 @@ public class SynchronizationSimulatorTest {
         clientContextB.getDBMSSynchronizer().closeSharedDatabase();
     }
 
+    @Test
+    void metaDataChangeIsPulledOnNotificationWithoutNewRevision() throws Exception {
+        clientContextA.getDatabase().insertEntry(getBibEntryExample(1));
+        clientContextB.getDBMSSynchronizer().pullChanges();
+        long revision = DBMSProcessor.getProcessorInstance(dbmsConnection).getLatestRevision();
+
+        // client A changes the meta data, which does not change the latest revision of the change log
+        clientContextA.getMetaData().setSaveActions(new FieldFormatterCleanups(true,
+                List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+        // client B is notified with the latest revision
+        ((DBMSSynchronizer) clientContextB.getDBMSSynchronizer()).pullChanges(revision);
+
+        assertEquals(clientContextA.getMetaData().getSaveActions(), clientContextB.getMetaData().getSaveActions());
+    }
+
     @Test
     public void simulateEntryInsertionAndManualPull() throws Exception {
         // client A inserts an entry
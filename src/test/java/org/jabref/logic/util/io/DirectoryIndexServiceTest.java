@@ -0,0 +1,90 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectoryIndexServiceTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private FileUpdateMonitor fileUpdateMonitor;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectory(rootDir.resolve("pdfs"));
+        Files.createFile(subDir.resolve("HipKro03.pdf"));
+        fileUpdateMonitor = mock(FileUpdateMonitor.class);
+        when(fileUpdateMonitor.isActive()).thenReturn(true);
+    }
+
+    @Test
+    void indexIsShared() throws IOException {
+        DirectoryIndexService service = new DirectoryIndexService(fileUpdateMonitor);
+        assertSame(service.getIndex(rootDir), service.getIndex(rootDir));
+    }
+
+    @Test
+    void indexIsReadAgainAfterChange() throws IOException {
+        DirectoryIndexService service = new DirectoryIndexService(fileUpdateMonitor);
+        DirectoryIndex index = service.getIndex(rootDir);
+        ArgumentCaptor<FileUpdateListener> listener = ArgumentCaptor.forClass(FileUpdateListener.class);
+        verify(fileUpdateMonitor).addListenerForDirectory(eq(subDir), listener.capture());
+
+        Path newFile = Files.createFile(subDir.resolve("HipKro03a.pdf"));
+        listener.getValue().fileUpdated();
+
+        DirectoryIndex newIndex = service.getIndex(rootDir);
+        assertNotSame(index, newIndex);
+        assertEquals(List.of(newFile), newIndex.findByBaseName("HipKro03a"));
+        verify(fileUpdateMonitor).removeListener(subDir, listener.getValue());
+    }
+
+    @Test
+    void indexIsCheckedForChangesIfDirectoryCannotBeMonitored() throws IOException {
+        doThrow(new IOException("Too many directories")).when(fileUpdateMonitor).addListenerForDirectory(eq(subDir), any());
+        DirectoryIndexService service = new DirectoryIndexService(fileUpdateMonitor, Duration.ZERO);
+        DirectoryIndex index = service.getIndex(rootDir);
+        assertSame(index, service.getIndex(rootDir));
+
+        Path newFile = Files.createFile(subDir.resolve("HipKro03a.pdf"));
+        // File systems with a coarse resolution of modification times might not notice the change that fast
+        Files.setLastModifiedTime(subDir, FileTime.fromMillis(0));
+
+        DirectoryIndex newIndex = service.getIndex(rootDir);
+        assertNotSame(index, newIndex);
+        assertEquals(List.of(newFile), newIndex.findByBaseName("HipKro03a"));
+    }
+
+    @Test
+    void indexWithoutMonitorIsKeptUntilInvalidated() throws IOException {
+        DirectoryIndexService service = new DirectoryIndexService(new DummyFileUpdateMonitor());
+        DirectoryIndex index = service.getIndex(rootDir);
+        assertSame(index, service.getIndex(rootDir));
+        service.invalidate();
+        assertNotSame(index, service.getIndex(rootDir));
+    }
+}
@@ -0,0 +1,71 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path textFile;
+    private Path subDirPdfFile;
+    private DirectoryIndex index;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectories(rootDir.resolve("papers/2003"));
+        pdfFile = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        textFile = Files.createFile(rootDir.resolve("HipKro03.txt"));
+        subDirPdfFile = Files.createFile(subDir.resolve("HipKro03 - Hello.pdf"));
+        index = DirectoryIndex.of(rootDir);
+    }
+
+    @Test
+    void findByBaseName() {
+        assertEquals(Set.of(pdfFile, textFile), Set.copyOf(index.findByBaseName("HipKro03")));
+    }
+
+    @Test
+    void findByExtension() {
+        assertEquals(Set.of(pdfFile, subDirPdfFile), Set.copyOf(index.findByExtension("pdf")));
+    }
+
+    @Test
+    void findByNamePrefix() {
+        assertEquals(Set.of(pdfFile, textFile, subDirPdfFile), Set.copyOf(index.findByNamePrefix("HipKro")));
+        assertEquals(List.of(), index.findByNamePrefix("JabRef"));
+    }
+
+    @Test
+    void listsContentOfDirectory() {
+        assertEquals(List.of(subDir), index.getSubdirectories(rootDir.resolve("papers")));
+        assertEquals(List.of(rootDir.resolve("papers"), subDir), index.getAllSubdirectories(rootDir));
+        assertEquals(List.of(subDirPdfFile), index.getFiles(subDir));
+    }
+
+    @Test
+    void containsSubdirectories() {
+        assertTrue(index.contains(subDir));
+        assertFalse(index.contains(rootDir.resolve("missing")));
+    }
+
+    @Test
+    void indexIsSnapshot() throws IOException {
+        Files.createFile(rootDir.resolve("HipKro03a.pdf"));
+        assertEquals(List.of(), index.findByBaseName("HipKro03a"));
+        assertEquals(List.of(rootDir.resolve("HipKro03a.pdf")), DirectoryIndex.of(rootDir).findByBaseName("HipKro03a"));
+    }
+}
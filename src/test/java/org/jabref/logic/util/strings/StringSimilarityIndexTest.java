@@ -0,0 +1,43 @@
+package org.jabref.logic.util.strings;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StringSimilarityIndexTest {
+
+    private final List<String> names = List.of(
+            "European International Journal of Science and Technology",
+            "Academia Scholarly Journals",
+            "Biosciences International",
+            "abcdef",
+            "ab");
+    private final StringSimilarityIndex index = new StringSimilarityIndex(names);
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "European International Journal, of Science and Technology",
+            "european international journal of science and technology",
+            "Academia Scholarly Journal",
+            "Biosciences Internationally",
+            "International Journal of Science",
+            "abc",
+            "a",
+            ""})
+    void findsSameStringsAsComparingToAll(String string) {
+        List<String> expected = names.stream()
+                                     .filter(name -> similarity.isSimilar(string, name))
+                                     .toList();
+        assertEquals(expected.stream().sorted().toList(), index.findSimilar(string).stream().sorted().toList());
+    }
+
+    @Test
+    void findsNothingInEmptyIndex() {
+        assertEquals(List.of(), new StringSimilarityIndex(List.of()).findSimilar("Biosciences International"));
+    }
+}
@@ -345,6 +345,45 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void correctKeyCountAfterClearingKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void keyChangeOfRemovedEntryDoesNotAffectDatabase() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+        assertFalse(database.isDuplicateCitationKeyExisting("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("first");
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second);
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+        assertTrue(database.isDuplicateCitationKeyExisting("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
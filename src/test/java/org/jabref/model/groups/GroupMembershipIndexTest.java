@@ -0,0 +1,109 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibEntry first = new BibEntry().withField(StandardField.KEYWORDS, "a");
+    private final BibEntry second = new BibEntry().withField(StandardField.KEYWORDS, "a, b");
+    private final BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "b");
+    private BibDatabase database;
+    private GroupTreeNode root;
+    private GroupMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(first, second, third));
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        index = GroupMembershipIndex.forDatabase(database);
+    }
+
+    private static AbstractGroup keywordGroup(String name, GroupHierarchyType context, String keyword) {
+        return new WordKeywordGroup(name, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void findMatchesOfIndependentGroup() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        assertEquals(List.of(first, second), index.findMatches(node));
+    }
+
+    @Test
+    void refiningGroupIntersectsWithParent() {
+        GroupTreeNode parent = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        GroupTreeNode node = parent.addSubgroup(keywordGroup("b", GroupHierarchyType.REFINING, "b"));
+        assertEquals(List.of(second), index.findMatches(node));
+    }
+
+    @Test
+    void includingGroupUnitesWithChildren() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INCLUDING, "a"));
+        node.addSubgroup(keywordGroup("b", GroupHierarchyType.INDEPENDENT, "b"));
+        assertEquals(List.of(first, second, third), index.findMatches(node));
+    }
+
+    @Test
+    void matchesFollowChangedFields() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        index.findMatches(node);
+        third.setField(StandardField.KEYWORDS, "a");
+        first.clearField(StandardField.KEYWORDS);
+        assertEquals(List.of(second, third), index.findMatches(node));
+    }
+
+    @Test
+    void matchesFollowAddedAndRemovedEntries() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        index.findMatches(node);
+        database.removeEntry(first);
+        BibEntry fourth = new BibEntry().withField(StandardField.KEYWORDS, "a");
+        database.insertEntry(fourth);
+        assertEquals(2, index.getNumberOfMatches(node));
+        assertEquals(List.of(fourth, second), index.findMatches(node));
+    }
+
+    @Test
+    void matchesFollowChangedGroup() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        index.findMatches(node);
+        node.setGroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "b"), false, false, database.getEntries());
+        assertEquals(List.of(second, third), index.findMatches(node));
+    }
+
+    @Test
+    void matcherRequiringAllGroups() {
+        GroupTreeNode a = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        GroupTreeNode b = root.addSubgroup(keywordGroup("b", GroupHierarchyType.INDEPENDENT, "b"));
+        Predicate<BibEntry> matcher = index.createMatcher(List.of(a, b), true);
+        assertEquals(List.of(second), database.getEntries().stream().filter(matcher).toList());
+    }
+
+    @Test
+    void matcherRequiringAnyGroup() {
+        GroupTreeNode a = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        GroupTreeNode b = root.addSubgroup(keywordGroup("b", GroupHierarchyType.INDEPENDENT, "b"));
+        Predicate<BibEntry> matcher = index.createMatcher(List.of(a, b), false);
+        assertEquals(List.of(first, second, third), database.getEntries().stream().filter(matcher).toList());
+    }
+
+    @Test
+    void matcherFollowsChangedEntry() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT, "a"));
+        Predicate<BibEntry> matcher = index.createMatcher(List.of(node), false);
+        assertFalse(matcher.test(third));
+        third.setField(StandardField.KEYWORDS, "a");
+        assertTrue(matcher.test(third));
+    }
+}